@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul.benchmarks;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Generates response payloads shaped like the ones returned by Consul 1.x, with a fixed seed,
+ * so every run of a benchmark parses the same bytes.
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+public class Fixtures {
+
+  private static final String[] TAGS = {"primary", "secondary", "canary", "v1", "v2", "blue", "green", "http", "grpc"};
+
+  /**
+   * @param size the number of service instances
+   * @return the response of {@code /v1/health/service/:service}
+   */
+  public static Buffer healthService(int size) {
+    Random random = new Random(size);
+    JsonArray entries = new JsonArray();
+    for (int i = 0; i < size; i++) {
+      String node = "node-" + i;
+      String address = address(random);
+      String serviceId = "web-" + i;
+      entries.add(new JsonObject()
+        .put("Node", node(random, node, address))
+        .put("Service", new JsonObject()
+          .put("Kind", "")
+          .put("ID", serviceId)
+          .put("Service", "web")
+          .put("Tags", tags(random))
+          .put("Address", address)
+          .put("Meta", new JsonObject().put("version", "1." + random.nextInt(20)).put("team", "platform"))
+          .put("Port", 8000 + random.nextInt(1000))
+          .put("Weights", new JsonObject().put("Passing", 10).put("Warning", 1))
+          .put("EnableTagOverride", false)
+          .put("CreateIndex", 100 + i)
+          .put("ModifyIndex", 100 + i))
+        .put("Checks", new JsonArray()
+          .add(check(random, node, "serfHealth", "Serf Health Status", "", ""))
+          .add(check(random, node, "service:" + serviceId, "Service 'web' check", serviceId, "web"))));
+    }
+    return entries.toBuffer();
+  }
+
+  /**
+   * @param size the number of nodes
+   * @return the response of {@code /v1/catalog/nodes}
+   */
+  public static Buffer catalogNodes(int size) {
+    Random random = new Random(size);
+    JsonArray nodes = new JsonArray();
+    for (int i = 0; i < size; i++) {
+      nodes.add(node(random, "node-" + i, address(random)));
+    }
+    return nodes.toBuffer();
+  }
+
+  /**
+   * @param size the number of keys
+   * @return the response of {@code /v1/kv/:prefix?recurse}
+   */
+  public static Buffer kvTree(int size) {
+    Random random = new Random(size);
+    JsonArray entries = new JsonArray();
+    for (int i = 0; i < size; i++) {
+      entries.add(keyValue(random, i));
+    }
+    return entries.toBuffer();
+  }
+
+  /**
+   * @param size the number of operations
+   * @return the response of {@code /v1/txn} with a result for every operation
+   */
+  public static Buffer txn(int size) {
+    Random random = new Random(size);
+    JsonArray results = new JsonArray();
+    for (int i = 0; i < size; i++) {
+      results.add(new JsonObject().put("KV", keyValue(random, i)));
+    }
+    return new JsonObject().put("Results", results).putNull("Errors").toBuffer();
+  }
+
+  /**
+   * @param size the number of events
+   * @return the response of {@code /v1/event/list}
+   */
+  public static Buffer events(int size) {
+    Random random = new Random(size);
+    JsonArray events = new JsonArray();
+    for (int i = 0; i < size; i++) {
+      events.add(new JsonObject()
+        .put("ID", new UUID(random.nextLong(), random.nextLong()).toString())
+        .put("Name", "deploy")
+        .put("Payload", base64("{\"version\":\"1." + i + "\",\"commit\":\"" + Long.toHexString(random.nextLong()) + "\"}"))
+        .put("NodeFilter", "")
+        .put("ServiceFilter", "web")
+        .put("TagFilter", "")
+        .put("Version", 1)
+        .put("LTime", 1000 + i));
+    }
+    return events.toBuffer();
+  }
+
+  /**
+   * @param size the number of nodes
+   * @return the response of {@code /v1/coordinate/nodes}
+   */
+  public static Buffer coordinates(int size) {
+    Random random = new Random(size);
+    JsonArray coordinates = new JsonArray();
+    for (int i = 0; i < size; i++) {
+      JsonArray vec = new JsonArray();
+      for (int j = 0; j < 8; j++) {
+        vec.add((random.nextDouble() - 0.5) * 0.01);
+      }
+      coordinates.add(new JsonObject()
+        .put("Node", "node-" + i)
+        .put("Segment", "")
+        .put("Coord", new JsonObject()
+          .put("Vec", vec)
+          .put("Error", random.nextDouble())
+          .put("Adjustment", random.nextDouble() * 0.0001)
+          .put("Height", random.nextDouble() * 0.0001)));
+    }
+    return coordinates.toBuffer();
+  }
+
+  private static JsonObject node(Random random, String name, String address) {
+    return new JsonObject()
+      .put("ID", new UUID(random.nextLong(), random.nextLong()).toString())
+      .put("Node", name)
+      .put("Address", address)
+      .put("Datacenter", "dc1")
+      .put("TaggedAddresses", new JsonObject().put("lan", address).put("wan", address))
+      .put("Meta", new JsonObject().put("consul-network-segment", "").put("rack", "r" + random.nextInt(32)))
+      .put("CreateIndex", 10)
+      .put("ModifyIndex", 10);
+  }
+
+  private static JsonObject check(Random random, String node, String id, String name, String serviceId, String serviceName) {
+    return new JsonObject()
+      .put("Node", node)
+      .put("CheckID", id)
+      .put("Name", name)
+      .put("Status", random.nextInt(20) == 0 ? "warning" : "passing")
+      .put("Notes", "")
+      .put("Output", "HTTP GET http://localhost/health: 200 OK Output: {\"status\":\"UP\"}")
+      .put("ServiceID", serviceId)
+      .put("ServiceName", serviceName)
+      .put("ServiceTags", new JsonArray())
+      .put("Type", serviceId.isEmpty() ? "" : "http")
+      .put("CreateIndex", 100)
+      .put("ModifyIndex", 100);
+  }
+
+  private static JsonObject keyValue(Random random, int i) {
+    return new JsonObject()
+      .put("LockIndex", 0)
+      .put("Key", "config/service-" + (i / 100) + "/env-" + (i % 10) + "/key-" + i)
+      .put("Flags", 0)
+      .put("Value", base64("value-" + Long.toHexString(random.nextLong()) + "-" + i))
+      .put("CreateIndex", 1000 + i)
+      .put("ModifyIndex", 1000 + i + random.nextInt(100));
+  }
+
+  private static JsonArray tags(Random random) {
+    JsonArray tags = new JsonArray();
+    int count = 1 + random.nextInt(3);
+    for (int i = 0; i < count; i++) {
+      tags.add(TAGS[random.nextInt(TAGS.length)]);
+    }
+    return tags;
+  }
+
+  private static String address(Random random) {
+    return "10." + random.nextInt(256) + "." + random.nextInt(256) + "." + random.nextInt(256);
+  }
+
+  private static String base64(String value) {
+    return Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+}
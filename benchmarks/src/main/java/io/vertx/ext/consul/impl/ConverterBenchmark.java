@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul.impl;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.consul.KeyValue;
+import io.vertx.ext.consul.KeyValueList;
+import io.vertx.ext.consul.ServiceEntry;
+import io.vertx.ext.consul.ServiceEntryList;
+import io.vertx.ext.consul.benchmarks.Fixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the {@code @JsonGen} converters of the data objects, which are used to copy the results and
+ * to send them over the event bus.
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConverterBenchmark {
+
+  @Param({"10000"})
+  public int healthSize;
+
+  @Param({"50000"})
+  public int kvSize;
+
+  private ServiceEntryList entries;
+  private JsonObject entriesJson;
+  private KeyValueList keyValues;
+  private JsonObject keyValuesJson;
+
+  @Setup
+  public void setup() {
+    List<ServiceEntry> serviceEntries = new JsonArray(Fixtures.healthService(healthSize)).stream()
+      .map(obj -> ServiceEntryParser.parse((JsonObject) obj))
+      .collect(Collectors.toList());
+    entries = new ServiceEntryList().setList(serviceEntries).setIndex(1);
+    entriesJson = entries.toJson();
+    List<KeyValue> kvs = new JsonArray(Fixtures.kvTree(kvSize)).stream()
+      .map(obj -> KVParser.parse((JsonObject) obj))
+      .collect(Collectors.toList());
+    keyValues = new KeyValueList().setList(kvs).setIndex(1);
+    keyValuesJson = keyValues.toJson();
+  }
+
+  @Benchmark
+  public JsonObject serviceEntriesToJson() {
+    return entries.toJson();
+  }
+
+  @Benchmark
+  public ServiceEntryList serviceEntriesFromJson() {
+    return new ServiceEntryList(entriesJson);
+  }
+
+  @Benchmark
+  public JsonObject keyValuesToJson() {
+    return keyValues.toJson();
+  }
+
+  @Benchmark
+  public KeyValueList keyValuesFromJson() {
+    return new KeyValueList(keyValuesJson);
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul.impl;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.consul.Event;
+import io.vertx.ext.consul.benchmarks.Fixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the decoding and the parsing of {@code /v1/event/list} responses by {@code EventParser}.
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBenchmark {
+
+  @Param("256")
+  public int size;
+
+  private Buffer body;
+  private JsonArray decoded;
+
+  @Setup
+  public void setup() {
+    body = Fixtures.events(size);
+    decoded = new JsonArray(body);
+  }
+
+  @Benchmark
+  public JsonArray decode() {
+    return new JsonArray(body);
+  }
+
+  @Benchmark
+  public List<Event> parse() {
+    return parse(decoded);
+  }
+
+  @Benchmark
+  public List<Event> decodeAndParse() {
+    return parse(new JsonArray(body));
+  }
+
+  private static List<Event> parse(JsonArray arr) {
+    return arr.stream().map(obj -> EventParser.parse((JsonObject) obj)).collect(Collectors.toList());
+  }
+}
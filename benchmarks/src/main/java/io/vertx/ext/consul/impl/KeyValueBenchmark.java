@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul.impl;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.consul.KeyValue;
+import io.vertx.ext.consul.benchmarks.Fixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the decoding and the parsing of recursive {@code /v1/kv/:prefix} responses by {@code KVParser}, including
+ * the base64 decoding of the values.
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeyValueBenchmark {
+
+  private static final int CHUNK_SIZE = 8192;
+
+  @Param("50000")
+  public int size;
+
+  private Buffer body;
+  private JsonArray decoded;
+
+  @Setup
+  public void setup() {
+    body = Fixtures.kvTree(size);
+    decoded = new JsonArray(body);
+  }
+
+  @Benchmark
+  public JsonArray decode() {
+    return new JsonArray(body);
+  }
+
+  @Benchmark
+  public List<KeyValue> parse() {
+    return parse(decoded);
+  }
+
+  @Benchmark
+  public List<KeyValue> decodeAndParse() {
+    return parse(new JsonArray(body));
+  }
+
+  @Benchmark
+  public List<KeyValue> streamParse() {
+    JsonArrayStream<KeyValue> stream = new JsonArrayStream<>(KVParser::parse);
+    for (int pos = 0; pos < body.length(); pos += CHUNK_SIZE) {
+      stream.write(body.getBuffer(pos, Math.min(pos + CHUNK_SIZE, body.length())));
+    }
+    stream.end();
+    return stream.result();
+  }
+
+  private static List<KeyValue> parse(JsonArray arr) {
+    return arr.stream().map(obj -> KVParser.parse((JsonObject) obj)).collect(Collectors.toList());
+  }
+}
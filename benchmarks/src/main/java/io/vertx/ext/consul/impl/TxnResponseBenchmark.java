@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul.impl;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.consul.TxnResponse;
+import io.vertx.ext.consul.benchmarks.Fixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the decoding and the parsing of {@code /v1/txn} responses by {@code TxnResponseParser}.
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TxnResponseBenchmark {
+
+  @Param("64")
+  public int size;
+
+  private Buffer body;
+  private JsonObject decoded;
+
+  @Setup
+  public void setup() {
+    body = Fixtures.txn(size);
+    decoded = new JsonObject(body);
+  }
+
+  @Benchmark
+  public TxnResponse parse() {
+    return TxnResponseParser.parse(decoded);
+  }
+
+  @Benchmark
+  public TxnResponse decodeAndParse() {
+    return TxnResponseParser.parse(new JsonObject(body));
+  }
+}
@@ -16,7 +16,9 @@
 package examples;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.ext.consul.*;
+import io.vertx.ext.consul.metrics.DefaultConsulClientMetrics;
 
 /**
  * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
@@ -38,6 +40,21 @@ public class ConsulClientExamples {
 
   }
 
+  public void metrics(Vertx vertx) {
+
+    DefaultConsulClientMetrics metrics = new DefaultConsulClientMetrics();
+
+    ConsulClient client = ConsulClient.create(vertx, new ConsulClientOptions().setMetrics(metrics));
+
+    vertx.setPeriodic(60_000, id -> {
+      DefaultConsulClientMetrics.EndpointMetrics kv = metrics.get("/v1/kv/{key}", HttpMethod.GET);
+      if (kv != null) {
+        System.out.println("in flight: " + kv.inFlight() + ", p99: " + kv.latency().valueAtPercentile(99) + " us");
+      }
+    });
+
+  }
+
   public void blockingOptions(long lastIndex) {
 
     BlockingQueryOptions opts = new BlockingQueryOptions()
@@ -46,4 +63,21 @@ public class ConsulClientExamples {
 
   }
 
+  public void consistencyMode(Vertx vertx) {
+
+    ConsulClientOptions options = new ConsulClientOptions()
+      .setConsistencyMode(ConsistencyMode.STALE);
+
+    ConsulClient client = ConsulClient.create(vertx, options);
+
+    client.getValuesWithOptions("foo", new BlockingQueryOptions().setMaxStale("10s")).onComplete(ar -> {
+      if (ar.succeeded()) {
+        KeyValueList list = ar.result();
+        System.out.println("last contact with leader: " + list.getMeta().getLastContact() + " ms");
+        System.out.println("known leader: " + list.getMeta().isKnownLeader());
+      }
+    });
+
+  }
+
 }
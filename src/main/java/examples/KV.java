@@ -15,8 +15,17 @@
  */
 package examples;
 
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.FileSystem;
+import io.vertx.core.file.OpenOptions;
 import io.vertx.ext.consul.*;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
  */
@@ -82,6 +91,74 @@ public class KV {
 
   }
 
+  public void update(ConsulClient consulClient) {
+
+    KeyValueUpdateOptions options = new KeyValueUpdateOptions()
+      .setMaxAttempts(20)
+      .setWaitForChange(true);
+
+    consulClient.updateValueWithOptions("counters/visits", kv ->
+      String.valueOf(kv.isPresent() ? Long.parseLong(kv.getValue()) + 1 : 1), options)
+      .onComplete(res -> {
+        if (res.succeeded()) {
+          System.out.println("visits: " + res.result().getValue() + " at index " + res.result().getModifyIndex());
+        } else {
+          res.cause().printStackTrace();
+        }
+      });
+
+  }
+
+  public void updateMany(ConsulClient consulClient) {
+
+    List<String> keys = Arrays.asList("accounts/alice", "accounts/bob");
+
+    consulClient.updateValues(keys, snapshot -> {
+      Map<String, String> writes = new HashMap<>();
+      writes.put("accounts/alice", String.valueOf(Long.parseLong(snapshot.get(0).getValue()) - 10));
+      writes.put("accounts/bob", String.valueOf(Long.parseLong(snapshot.get(1).getValue()) + 10));
+      return writes;
+    }).onComplete(res -> {
+      if (res.succeeded()) {
+        res.result().forEach(kv -> System.out.println(kv.getKey() + ": " + kv.getValue()));
+      } else {
+        res.cause().printStackTrace();
+      }
+    });
+
+  }
+
+  public void binary(ConsulClient consulClient, Buffer image) {
+
+    consulClient.putValueAsBuffer("images/logo", image)
+      .compose(stored -> consulClient.getValueAsBuffer("images/logo"))
+      .onComplete(res -> {
+        if (res.succeeded()) {
+          System.out.println("retrieved " + res.result().getRawValue().length() + " bytes");
+        } else {
+          res.cause().printStackTrace();
+        }
+      });
+
+  }
+
+  public void stream(Vertx vertx, ConsulClient consulClient) {
+
+    FileSystem fs = vertx.fileSystem();
+    fs.open("backup.tar", new OpenOptions().setRead(true))
+      .compose(file -> consulClient.putValueFromStream("backups/latest", file))
+      .compose(stored -> fs.open("restore.tar", new OpenOptions().setWrite(true).setCreate(true)))
+      .compose(file -> consulClient.getValueToStream("backups/latest", file))
+      .onComplete(res -> {
+        if (res.succeeded()) {
+          System.out.println("restored value of modify index " + res.result().getModifyIndex());
+        } else {
+          res.cause().printStackTrace();
+        }
+      });
+
+  }
+
   public void deleteValue(ConsulClient consulClient) {
 
     consulClient.deleteValue("key").onComplete(res -> {
@@ -138,4 +215,72 @@ public class KV {
       }
     });
   }
+
+  public void registerNode(ConsulClient consulClient) {
+
+    TxnRequest request = new TxnRequest()
+      .addOperation(new TxnNodeOperation()
+        .setType(TxnNodeVerb.SET)
+        .setNode(new Node().setName("worker-1").setAddress("10.0.0.7")))
+      .addOperation(new TxnServiceOperation()
+        .setType(TxnServiceVerb.SET)
+        .setNode("worker-1")
+        .setServiceOptions(new ServiceOptions().setId("api-1").setName("api").setPort(8080)))
+      .addOperation(new TxnCheckOperation()
+        .setType(TxnCheckVerb.SET)
+        .setCheck(new Check().setNode("worker-1").setId("api-1-alive").setName("api alive")
+          .setServiceId("api-1").setStatus(CheckStatus.PASSING)));
+
+    consulClient.transaction(request).onComplete(res -> {
+      if (res.succeeded() && res.result().getErrorsSize() == 0) {
+        System.out.println("node registered with " + res.result().getResultsSize() + " entries");
+      } else if (res.succeeded()) {
+        System.out.println("rolled back: " + res.result().getErrors().get(0).getWhat());
+      } else {
+        res.cause().printStackTrace();
+      }
+    });
+  }
+
+  public void getByKeys(ConsulClient consulClient, List<String> keys) {
+
+    consulClient.getValuesByKeys(keys).onComplete(res -> {
+      if (res.succeeded()) {
+        for (KeyValue kv : res.result()) {
+          System.out.println(kv.isPresent() ? kv.getKey() + ": " + kv.getValue() : "not found");
+        }
+      } else {
+        res.cause().printStackTrace();
+      }
+    });
+  }
+
+  public void writer(Vertx vertx) {
+
+    KeyValueWriter writer = KeyValueWriter.create(vertx, new ConsulClientOptions(),
+      new KeyValueWriterOptions().setFlushInterval(20));
+
+    writer.put("status/worker-1", "busy");
+    writer.put("status/worker-1", "idle").onComplete(res -> {
+      if (res.succeeded()) {
+        System.out.println("written: " + res.result() + ", coalesced writes: " + writer.coalescedCount());
+      } else {
+        res.cause().printStackTrace();
+      }
+    });
+  }
+
+  public void replica(Vertx vertx) {
+
+    KeyValueReplica replica = KeyValueReplica.create(vertx, "config/", new ConsulClientOptions());
+
+    replica.start().onComplete(res -> {
+      if (res.succeeded()) {
+        KeyValue kv = replica.get("config/timeout");
+        System.out.println("timeout: " + (kv == null ? null : kv.getValue()) + " at index " + replica.index());
+      } else {
+        res.cause().printStackTrace();
+      }
+    });
+  }
 }
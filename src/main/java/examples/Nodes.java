@@ -15,9 +15,15 @@
  */
 package examples;
 
+import io.vertx.core.Vertx;
 import io.vertx.ext.consul.BlockingQueryOptions;
 import io.vertx.ext.consul.ConsulClient;
+import io.vertx.ext.consul.ConsulClientOptions;
+import io.vertx.ext.consul.CoordinateCache;
 import io.vertx.ext.consul.NodeQueryOptions;
+import io.vertx.ext.consul.ServiceEntry;
+
+import java.util.List;
 
 /**
  * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
@@ -52,4 +58,21 @@ public class Nodes {
     });
 
   }
+
+  public void coordinateCache(Vertx vertx, ConsulClient consulClient, String localNode) {
+
+    CoordinateCache coordinates = CoordinateCache.create(vertx, new ConsulClientOptions());
+
+    coordinates.start()
+      .compose(v -> consulClient.healthServiceNodes("serviceName", true))
+      .onComplete(res -> {
+        if (res.succeeded()) {
+          List<ServiceEntry> nearest = coordinates.sortServiceEntries(localNode, res.result().getList());
+          nearest.forEach(entry -> System.out.println(entry.getNode().getName() + " "
+            + coordinates.rtt(localNode, entry.getNode().getName()) * 1000 + "ms"));
+        } else {
+          res.cause().printStackTrace();
+        }
+      });
+  }
 }
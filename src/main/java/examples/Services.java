@@ -15,6 +15,7 @@
  */
 package examples;
 
+import io.vertx.core.Vertx;
 import io.vertx.ext.consul.*;
 
 import java.util.Arrays;
@@ -106,6 +107,58 @@ public class Services {
     });
   }
 
+  public void cache(Vertx vertx) {
+
+    ServiceCache cache = ServiceCache.create(vertx, new ConsulClientOptions(), new ServiceCacheOptions()
+      .setIdleTimeout(60_000)
+      .setMaxEntries(100));
+
+    cache.healthServiceNodes("serviceName", true).onComplete(res -> {
+      if (res.succeeded()) {
+        System.out.println("found " + res.result().getList().size() + " services");
+      } else {
+        res.cause().printStackTrace();
+      }
+    });
+  }
+
+  public void agentCache(ConsulClient consulClient) {
+
+    ServiceQueryOptions opts = new ServiceQueryOptions()
+      .setBlockingOptions(new BlockingQueryOptions()
+        .setCacheOptions(new AgentCacheOptions()
+          .setMaxAge(30)
+          .setStaleIfError(600)));
+
+    consulClient.healthServiceNodesWithOptions("serviceName", true, opts).onComplete(res -> {
+      if (res.succeeded()) {
+        ServiceEntryList list = res.result();
+        System.out.println("cache hit: " + list.getMeta().isCacheHit() + ", age: " + list.getMeta().getCacheAge() + " s");
+      } else {
+        res.cause().printStackTrace();
+      }
+    });
+  }
+
+  public void loadBalancer(Vertx vertx) {
+
+    ServiceLoadBalancer lb = ServiceLoadBalancer.create(vertx, "serviceName",
+      LoadBalancerStrategy.POWER_OF_TWO_CHOICES, new ConsulClientOptions());
+
+    lb.start().onComplete(res -> {
+      if (res.succeeded()) {
+        ServiceEntry instance = lb.select();
+        if (instance != null) {
+          System.out.println("call " + instance.getService().getAddress() + ":" + instance.getService().getPort());
+          // when the call is completed
+          lb.release(instance);
+        }
+      } else {
+        res.cause().printStackTrace();
+      }
+    });
+  }
+
   public void deregister(ConsulClient consulClient) {
 
     consulClient.deregisterService("serviceId").onComplete(res -> {
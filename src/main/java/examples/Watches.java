@@ -16,7 +16,12 @@
 package examples;
 
 import io.vertx.core.Vertx;
+import io.vertx.ext.consul.ConsulClientOptions;
+import io.vertx.ext.consul.Event;
+import io.vertx.ext.consul.KeyValueDiff;
+import io.vertx.ext.consul.ServiceEntryChange;
 import io.vertx.ext.consul.Watch;
+import io.vertx.ext.consul.WatchFactory;
 
 /**
  * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
@@ -34,4 +39,53 @@ public class Watches {
       })
       .start();
   }
+
+  public void watchFactory(Vertx vertx) {
+    WatchFactory factory = WatchFactory.create(vertx, new ConsulClientOptions());
+
+    factory.key("foo/bar")
+      .setHandler(res -> System.out.println("value: " + res.nextResult().getValue()))
+      .start();
+
+    factory.service("payments")
+      .setHandler(res -> System.out.println("instances: " + res.nextResult().getList().size()))
+      .start();
+  }
+
+  public void watchKeyPrefixDiff(Vertx vertx) {
+    Watch.keyPrefixDiff("config/", vertx)
+      .setHandler(res -> {
+        if (res.succeeded()) {
+          KeyValueDiff diff = res.nextResult();
+          diff.getAdded().forEach(kv -> System.out.println("added: " + kv.getKey()));
+          diff.getModified().forEach(kv -> System.out.println("modified: " + kv.getKey()));
+          diff.getRemoved().forEach(kv -> System.out.println("removed: " + kv.getKey()));
+        }
+      })
+      .start();
+  }
+
+  public void watchServiceChanges(Vertx vertx) {
+    Watch.serviceChanges("api", vertx)
+      .setHandler(res -> {
+        if (res.succeeded()) {
+          for (ServiceEntryChange change : res.nextResult().getList()) {
+            System.out.println(change.getType() + ": " + change.getEntry().getService().getAddress() + " " + change.getStatus());
+          }
+        }
+      })
+      .start();
+  }
+
+  public void watchNewEvents(Vertx vertx, long lastHandled) {
+    Watch.newEvents("deploy", lastHandled, vertx, new ConsulClientOptions())
+      .setHandler(res -> {
+        if (res.succeeded()) {
+          for (Event event : res.nextResult().getList()) {
+            System.out.println("event " + event.getPayload() + " at " + event.getLTime());
+          }
+        }
+      })
+      .start();
+  }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Options used to serve a read from the cache of the local agent instead of a request to the servers.
+ * The agent cache is supported by the catalog services, catalog service nodes and health service nodes endpoints,
+ * the other endpoints ignore it.
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ * @see <a href="https://www.consul.io/api-docs/features/caching">Agent Caching documentation</a>
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class AgentCacheOptions {
+
+  private long maxAge;
+  private long staleIfError;
+
+  /**
+   * Default constructor
+   */
+  public AgentCacheOptions() {}
+
+  /**
+   * Copy constructor
+   *
+   * @param options the one to copy
+   */
+  public AgentCacheOptions(AgentCacheOptions options) {
+    this.maxAge = options.maxAge;
+    this.staleIfError = options.staleIfError;
+  }
+
+  /**
+   * Constructor from JSON
+   *
+   * @param options the JSON
+   */
+  public AgentCacheOptions(JsonObject options) {
+    AgentCacheOptionsConverter.fromJson(options, this);
+  }
+
+  /**
+   * Convert to JSON
+   *
+   * @return the JSON
+   */
+  public JsonObject toJson() {
+    JsonObject jsonObject = new JsonObject();
+    AgentCacheOptionsConverter.toJson(this, jsonObject);
+    return jsonObject;
+  }
+
+  /**
+   * Get the maximum age of a cached result, in seconds
+   *
+   * @return the maximum age
+   */
+  public long getMaxAge() {
+    return maxAge;
+  }
+
+  /**
+   * Set the maximum age of a cached result, in seconds. An older result is refreshed from the servers
+   * before it is returned. If not set ({@code 0}), the agent returns the cached result of any age,
+   * which is kept up to date in background for the endpoints supporting background refresh.
+   *
+   * @param maxAge the maximum age
+   * @return reference to this, for fluency
+   */
+  public AgentCacheOptions setMaxAge(long maxAge) {
+    this.maxAge = maxAge;
+    return this;
+  }
+
+  /**
+   * Get the maximum age of a cached result which can be returned when the refresh fails, in seconds
+   *
+   * @return the maximum age of a stale result
+   */
+  public long getStaleIfError() {
+    return staleIfError;
+  }
+
+  /**
+   * Set the maximum age of a cached result which can be returned when the refresh from the servers fails,
+   * in seconds. If not set ({@code 0}), the refresh error is returned.
+   *
+   * @param staleIfError the maximum age of a stale result
+   * @return reference to this, for fluency
+   */
+  public AgentCacheOptions setStaleIfError(long staleIfError) {
+    this.staleIfError = staleIfError;
+    return this;
+  }
+}
@@ -31,6 +31,9 @@ public class BlockingQueryOptions {
 
   private long index;
   private String wait;
+  private ConsistencyMode consistencyMode;
+  private String maxStale;
+  private AgentCacheOptions cacheOptions;
 
   /**
    * Default constructor
@@ -45,6 +48,9 @@ public class BlockingQueryOptions {
   public BlockingQueryOptions(BlockingQueryOptions options) {
     this.index = options.index;
     this.wait = options.wait;
+    this.consistencyMode = options.consistencyMode;
+    this.maxStale = options.maxStale;
+    this.cacheOptions = options.cacheOptions == null ? null : new AgentCacheOptions(options.cacheOptions);
   }
 
   /**
@@ -108,4 +114,69 @@ public class BlockingQueryOptions {
     this.wait = wait;
     return this;
   }
+
+  /**
+   * Get the consistency mode
+   *
+   * @return the consistency mode
+   */
+  public ConsistencyMode getConsistencyMode() {
+    return consistencyMode;
+  }
+
+  /**
+   * Set the consistency mode of the read. If not set, the default consistency mode of the client is used,
+   * see {@link ConsulClientOptions#setConsistencyMode(ConsistencyMode)}
+   *
+   * @param consistencyMode the consistency mode
+   * @return reference to this, for fluency
+   */
+  public BlockingQueryOptions setConsistencyMode(ConsistencyMode consistencyMode) {
+    this.consistencyMode = consistencyMode;
+    return this;
+  }
+
+  /**
+   * Get the maximum allowed staleness
+   *
+   * @return the maximum allowed staleness
+   */
+  public String getMaxStale() {
+    return maxStale;
+  }
+
+  /**
+   * Set the maximum allowed staleness of a stale read, in the form of "10s" or "5m". If the last contact of the
+   * server with the leader is longer, the read is served by the leader. Setting it implies the stale consistency mode.
+   *
+   * @param maxStale the maximum allowed staleness
+   * @return reference to this, for fluency
+   */
+  public BlockingQueryOptions setMaxStale(String maxStale) {
+    this.maxStale = maxStale;
+    return this;
+  }
+
+  /**
+   * Get the agent cache options
+   *
+   * @return the agent cache options
+   */
+  public AgentCacheOptions getCacheOptions() {
+    return cacheOptions;
+  }
+
+  /**
+   * Set the agent cache options. If set, the read is served from the cache of the local agent, which is
+   * supported by the catalog services, catalog service nodes and health service nodes endpoints.
+   * A cached read can't be {@link ConsistencyMode#CONSISTENT consistent}, the default consistency mode of the client
+   * is not applied to it.
+   *
+   * @param cacheOptions the agent cache options
+   * @return reference to this, for fluency
+   */
+  public BlockingQueryOptions setCacheOptions(AgentCacheOptions cacheOptions) {
+    this.cacheOptions = cacheOptions;
+    return this;
+  }
 }
@@ -16,6 +16,7 @@
 package io.vertx.ext.consul;
 
 import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.json.annotations.JsonGen;
 import io.vertx.core.json.JsonObject;
 
@@ -26,7 +27,7 @@ import io.vertx.core.json.JsonObject;
  */
 @DataObject
 @JsonGen(publicConverter = false)
-public class Check {
+public class Check implements TxnResult {
 
   private String id;
   private String name;
@@ -297,4 +298,10 @@ public class Check {
     result = 31 * result + (node != null ? node.hashCode() : 0);
     return result;
   }
+
+  @GenIgnore
+  @Override
+  public TxnOperationType getOperationType() {
+    return TxnOperationType.CHECK;
+  }
 }
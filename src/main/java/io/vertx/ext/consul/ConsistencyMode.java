@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * Represents the consistency mode of read requests
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ * @see <a href="https://www.consul.io/api/features/consistency.html">Consistency Modes</a>
+ */
+@VertxGen
+public enum ConsistencyMode {
+  /**
+   * Strongly consistent in almost all cases, reads are served by the leader
+   */
+  DEFAULT,
+  /**
+   * Any server can service the read, the result may be arbitrarily stale.
+   * The staleness can be observed with {@code lastContact} of the result
+   */
+  STALE,
+  /**
+   * Strongly consistent without caveats, the leader verifies it is still the leader before serving the read
+   */
+  CONSISTENT
+}
@@ -18,12 +18,17 @@ package io.vertx.ext.consul;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.core.streams.WriteStream;
 import io.vertx.ext.consul.impl.ConsulClientImpl;
 import io.vertx.ext.consul.policy.AclPolicy;
 import io.vertx.ext.consul.token.CloneAclTokenOptions;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
  * A Vert.x service used to interact with Consul.
@@ -54,6 +59,18 @@ public interface ConsulClient {
     return new ConsulClientImpl(vertx, options);
   }
 
+  /**
+   * Create a Consul client which shares its connection pool with all the other shared clients
+   * created with the same options. The connection pool is closed when the last client using it is closed.
+   *
+   * @param vertx   the Vert.x instance
+   * @param options the options
+   * @return the client
+   */
+  static ConsulClient createShared(Vertx vertx, ConsulClientOptions options) {
+    return ConsulClientImpl.createShared(vertx, options);
+  }
+
   /**
    * Returns the configuration and member information of the local agent
    *
@@ -129,6 +146,43 @@ public interface ConsulClient {
    */
   Future<KeyValue> getValueWithOptions(String key, BlockingQueryOptions options);
 
+  /**
+   * Returns key/value pair that corresponding to the specified key, with the value as raw bytes, see {@link KeyValue#getRawValue()}.
+   * The value is read from the {@code ?raw} endpoint, so it is neither base64 encoded nor converted to a string,
+   * which makes it suitable for binary values. The raw endpoint returns only the value, so only the key,
+   * the raw value and the modify index of the returned pair are set.
+   * An empty {@link KeyValue} object will be returned if no such key is found.
+   *
+   * @param key the key
+   * @return a future provided with key/value pair
+   * @see <a href="https://www.consul.io/api/kv.html#read-key">/v1/kv/:key</a> endpoint
+   */
+  Future<KeyValue> getValueAsBuffer(String key);
+
+  /**
+   * Returns key/value pair that corresponding to the specified key, with the value as raw bytes.
+   * This is blocking query unlike {@link ConsulClient#getValueAsBuffer(String)}
+   *
+   * @param key     the key
+   * @param options the blocking options
+   * @return a future provided with key/value pair
+   * @see <a href="https://www.consul.io/api/kv.html#read-key">/v1/kv/:key</a> endpoint
+   */
+  Future<KeyValue> getValueAsBufferWithOptions(String key, BlockingQueryOptions options);
+
+  /**
+   * Writes the raw value of the specified key to the stream, as it is received, without holding the whole value in memory.
+   * The stream is ended once the value is written. If no such key is found, nothing is written to the stream,
+   * the stream is not ended and an empty {@link KeyValue} object will be returned.
+   * Otherwise, the returned pair has only the key and the modify index set.
+   *
+   * @param key    the key
+   * @param stream the stream the value is piped to, e.g. an {@code AsyncFile}
+   * @return a future provided with key/value pair, completed when the value is written
+   * @see <a href="https://www.consul.io/api/kv.html#read-key">/v1/kv/:key</a> endpoint
+   */
+  Future<KeyValue> getValueToStream(String key, WriteStream<Buffer> stream);
+
   /**
    * Remove the key/value pair that corresponding to the specified key
    *
@@ -160,6 +214,17 @@ public interface ConsulClient {
    */
   Future<KeyValueList> getValuesWithOptions(String keyPrefix, BlockingQueryOptions options);
 
+  /**
+   * Returns the key/value pairs that corresponding to the specified keys, in the order of the keys.
+   * The keys are read with {@link TxnKVVerb#GET} transaction operations, in chunks of at most {@link TxnRequest#MAX_OPERATIONS} keys,
+   * which are sent concurrently. An empty {@link KeyValue} object will be returned for each key which is not found.
+   *
+   * @param keys the keys
+   * @return a future provided with list of key/value pairs
+   * @see <a href="https://www.consul.io/api/txn.html">/v1/txn</a> endpoint
+   */
+  Future<List<KeyValue>> getValuesByKeys(List<String> keys);
+
   /**
    * Removes all the key/value pair that corresponding to the specified key prefix
    *
@@ -188,6 +253,101 @@ public interface ConsulClient {
    */
   Future<Boolean> putValueWithOptions(String key, String value, KeyValueOptions options);
 
+  /**
+   * Optimistically updates the value of the key. The key is read, the new value is computed by the function
+   * and written with the Check-And-Set index of the read, see {@link KeyValueOptions#setCasIndex(long)}.
+   * If the key was modified meanwhile, the update is retried with the default {@link KeyValueUpdateOptions}.
+   *
+   * @param key    the key
+   * @param mapper the function computing the new value from the current pair, which is empty if no such key is found.
+   *               The key is left unchanged if the function returns {@code null}. The function may be called several times.
+   * @return a future provided with the written key/value pair with its new modify index,
+   * or the current pair if the function returned {@code null}
+   * @see <a href="https://www.consul.io/api/txn.html">/v1/txn</a> endpoint
+   */
+  Future<KeyValue> updateValue(String key, Function<KeyValue, String> mapper);
+
+  /**
+   * Optimistically updates the value of the key, see {@link #updateValue(String, Function)}.
+   * The retries and the conflicts are reported to {@link io.vertx.ext.consul.metrics.ConsulClientMetrics#updateEnd}.
+   *
+   * @param key     the key
+   * @param mapper  the function computing the new value from the current pair
+   * @param options the options of the retries
+   * @return a future provided with the written key/value pair, failed if all the attempts lost the race with concurrent writes
+   * @see <a href="https://www.consul.io/api/txn.html">/v1/txn</a> endpoint
+   */
+  Future<KeyValue> updateValueWithOptions(String key, Function<KeyValue, String> mapper, KeyValueUpdateOptions options);
+
+  /**
+   * Optimistically updates the values of several keys at once. The keys are read, the new values are computed
+   * by the function from the whole snapshot and committed by a single transaction, which is rolled back if any of
+   * the existing keys was modified since it was read. In this case only the modified keys are read again
+   * and the function is applied to the updated snapshot, with the default {@link KeyValueUpdateOptions}.
+   * The absence of a key which does not exist and is not written by the function is not checked.
+   *
+   * @param keys   the keys, at most {@link TxnRequest#MAX_OPERATIONS}
+   * @param mapper the function computing the new values from the current pairs, which are in the order of the keys
+   *               and empty for the keys which are not found. It returns the new values of the keys to write,
+   *               a {@code null} value deletes the key. Only the keys which were read can be written.
+   *               The function may be called several times.
+   * @return a future provided with the key/value pairs in the order of the keys, with the new modify indexes of the written keys
+   * @see <a href="https://www.consul.io/api/txn.html">/v1/txn</a> endpoint
+   */
+  Future<List<KeyValue>> updateValues(List<String> keys, Function<List<KeyValue>, Map<String, String>> mapper);
+
+  /**
+   * Optimistically updates the values of several keys at once, see {@link #updateValues(List, Function)}.
+   *
+   * @param keys    the keys, at most {@link TxnRequest#MAX_OPERATIONS}
+   * @param mapper  the function computing the new values from the current pairs
+   * @param options the options of the retries
+   * @return a future provided with the key/value pairs in the order of the keys,
+   * failed if all the attempts lost the race with concurrent writes
+   * @see <a href="https://www.consul.io/api/txn.html">/v1/txn</a> endpoint
+   */
+  Future<List<KeyValue>> updateValuesWithOptions(List<String> keys, Function<List<KeyValue>, Map<String, String>> mapper,
+                                                 KeyValueUpdateOptions options);
+
+  /**
+   * Adds specified key/value pair, the value is stored as is, without a conversion to a string
+   *
+   * @param key   the key
+   * @param value the value
+   * @return a future provided with success of operation
+   * @see <a href="https://www.consul.io/api/kv.html#create-update-key">/v1/kv/:key</a> endpoint
+   */
+  Future<Boolean> putValueAsBuffer(String key, Buffer value);
+
+  /**
+   * @param key     the key
+   * @param value   the value, stored as is
+   * @param options options used to push pair
+   * @return a future provided with success of operation
+   * @see <a href="https://www.consul.io/api/kv.html#create-update-key">/v1/kv/:key</a> endpoint
+   */
+  Future<Boolean> putValueAsBufferWithOptions(String key, Buffer value, KeyValueOptions options);
+
+  /**
+   * Adds specified key/value pair, the value is read from the stream and sent as it is read,
+   * without holding the whole value in memory
+   *
+   * @param key   the key
+   * @param value the stream of the value, e.g. an {@code AsyncFile}
+   * @return a future provided with success of operation
+   * @see <a href="https://www.consul.io/api/kv.html#create-update-key">/v1/kv/:key</a> endpoint
+   */
+  Future<Boolean> putValueFromStream(String key, ReadStream<Buffer> value);
+
+  /**
+   * @param key     the key
+   * @param value   the stream of the value
+   * @param options options used to push pair
+   * @return a future provided with success of operation
+   * @see <a href="https://www.consul.io/api/kv.html#create-update-key">/v1/kv/:key</a> endpoint
+   */
+  Future<Boolean> putValueFromStreamWithOptions(String key, ReadStream<Buffer> value, KeyValueOptions options);
+
   /**
    * Manages multiple operations inside a single, atomic transaction.
    *
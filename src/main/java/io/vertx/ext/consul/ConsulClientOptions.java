@@ -24,6 +24,7 @@ import io.vertx.core.http.Http2Settings;
 import io.vertx.core.http.HttpVersion;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.*;
+import io.vertx.ext.consul.metrics.ConsulClientMetrics;
 import io.vertx.ext.web.client.WebClientOptions;
 
 import java.net.URI;
@@ -43,9 +44,23 @@ public class ConsulClientOptions extends WebClientOptions {
   private static final String CONSUL_DEFAULT_HOST = "localhost";
   private static final int CONSUL_DEFAULT_PORT = 8500;
 
+  /**
+   * The default maximum number of connections used by unary requests = 5
+   */
+  public static final int DEFAULT_MAX_POOL_SIZE = 5;
+
+  /**
+   * The default maximum number of connections used by blocking queries = 64
+   */
+  public static final int DEFAULT_LONG_POLL_MAX_POOL_SIZE = 64;
+
   private String aclToken;
   private String dc;
   private long timeoutMs;
+  private int maxPoolSize = DEFAULT_MAX_POOL_SIZE;
+  private int longPollMaxPoolSize = DEFAULT_LONG_POLL_MAX_POOL_SIZE;
+  private ConsistencyMode consistencyMode = ConsistencyMode.DEFAULT;
+  private ConsulClientMetrics metrics;
 
   /**
    * Default constructor
@@ -68,6 +83,10 @@ public class ConsulClientOptions extends WebClientOptions {
     setAclToken(options.getAclToken());
     setDc(options.getDc());
     setTimeout(options.getTimeout());
+    setMaxPoolSize(options.getMaxPoolSize());
+    setLongPollMaxPoolSize(options.getLongPollMaxPoolSize());
+    setConsistencyMode(options.getConsistencyMode());
+    setMetrics(options.getMetrics());
   }
 
   /**
@@ -204,6 +223,33 @@ public class ConsulClientOptions extends WebClientOptions {
     return timeoutMs;
   }
 
+  /**
+   * Get the maximum number of connections used by unary (non-blocking) requests
+   *
+   * @return the maximum pool size
+   */
+  public int getMaxPoolSize() {
+    return maxPoolSize;
+  }
+
+  /**
+   * Get the maximum number of connections used by blocking queries
+   *
+   * @return the maximum pool size
+   */
+  public int getLongPollMaxPoolSize() {
+    return longPollMaxPoolSize;
+  }
+
+  /**
+   * Get the default consistency mode of read requests
+   *
+   * @return the consistency mode
+   */
+  public ConsistencyMode getConsistencyMode() {
+    return consistencyMode;
+  }
+
   /**
    * Set Consul host. Defaults to `localhost`
    *
@@ -265,6 +311,65 @@ public class ConsulClientOptions extends WebClientOptions {
     return this;
   }
 
+  /**
+   * Set the maximum number of connections used by unary requests, i.e. all the requests except blocking queries.
+   * Blocking queries use a dedicated pool, so they can never starve these requests. Defaults to `5`
+   *
+   * @param maxPoolSize the maximum pool size
+   * @return reference to this, for fluency
+   */
+  public ConsulClientOptions setMaxPoolSize(int maxPoolSize) {
+    this.maxPoolSize = maxPoolSize;
+    return this;
+  }
+
+  /**
+   * Set the maximum number of connections used by blocking queries, i.e. the requests with a blocking index.
+   * Each pending blocking query holds a connection until it returns. Defaults to `64`
+   *
+   * @param longPollMaxPoolSize the maximum pool size
+   * @return reference to this, for fluency
+   */
+  public ConsulClientOptions setLongPollMaxPoolSize(int longPollMaxPoolSize) {
+    this.longPollMaxPoolSize = longPollMaxPoolSize;
+    return this;
+  }
+
+  /**
+   * Set the default consistency mode of read requests, used unless the request options specify another one.
+   * The stale mode allows any server to serve the reads, which spreads the read load across the followers. Defaults to `DEFAULT`
+   *
+   * @param consistencyMode the consistency mode
+   * @return reference to this, for fluency
+   */
+  public ConsulClientOptions setConsistencyMode(ConsistencyMode consistencyMode) {
+    this.consistencyMode = consistencyMode;
+    return this;
+  }
+
+  /**
+   * Get the metrics SPI implementation
+   *
+   * @return the metrics, or {@code null} if the requests are not instrumented
+   */
+  @GenIgnore
+  public ConsulClientMetrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Set the metrics SPI implementation which is notified about every request of the client, for example
+   * {@link io.vertx.ext.consul.metrics.DefaultConsulClientMetrics}. It is not a part of the JSON representation.
+   *
+   * @param metrics the metrics
+   * @return reference to this, for fluency
+   */
+  @GenIgnore
+  public ConsulClientOptions setMetrics(ConsulClientMetrics metrics) {
+    this.metrics = metrics;
+    return this;
+  }
+
   /**
    * Set the TCP send buffer size
    *
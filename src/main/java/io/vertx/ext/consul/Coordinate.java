@@ -16,9 +16,12 @@
 package io.vertx.ext.consul;
 
 import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.json.annotations.JsonGen;
 import io.vertx.core.json.JsonObject;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -35,7 +38,7 @@ public class Coordinate {
   private float adj;
   private float err;
   private float height;
-  private List<Float> vec;
+  private float[] vec;
 
   /**
    * Default constructor
@@ -112,11 +115,28 @@ public class Coordinate {
   }
 
   /**
-   * Get vector
+   * Get vector. The list is a copy, use {@link #setVec(List)} to change the vector of the coordinate.
    *
    * @return vector
    */
   public List<Float> getVec() {
+    if (vec == null) {
+      return null;
+    }
+    List<Float> list = new ArrayList<>(vec.length);
+    for (float f : vec) {
+      list.add(f);
+    }
+    return list;
+  }
+
+  /**
+   * Get vector as primitive array. The array is not copied and must not be modified.
+   *
+   * @return vector
+   */
+  @GenIgnore
+  public float[] getVecArray() {
     return vec;
   }
 
@@ -171,6 +191,26 @@ public class Coordinate {
    * @return reference to this, for fluency
    */
   public Coordinate setVec(List<Float> vec) {
+    if (vec == null) {
+      this.vec = null;
+    } else {
+      this.vec = new float[vec.size()];
+      for (int i = 0; i < this.vec.length; i++) {
+        Float f = vec.get(i);
+        this.vec[i] = f == null ? 0f : f;
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Set vector as primitive array. The array is not copied and must not be modified after.
+   *
+   * @param vec vector
+   * @return reference to this, for fluency
+   */
+  @GenIgnore
+  public Coordinate setVecArray(float[] vec) {
     this.vec = vec;
     return this;
   }
@@ -186,7 +226,7 @@ public class Coordinate {
     if (Float.compare(that.err, err) != 0) return false;
     if (Float.compare(that.height, height) != 0) return false;
     if (node != null ? !node.equals(that.node) : that.node != null) return false;
-    return vec != null ? vec.equals(that.vec) : that.vec == null;
+    return Arrays.equals(vec, that.vec);
   }
 
   @Override
@@ -195,7 +235,7 @@ public class Coordinate {
     result = 31 * result + (adj != +0.0f ? Float.floatToIntBits(adj) : 0);
     result = 31 * result + (err != +0.0f ? Float.floatToIntBits(err) : 0);
     result = 31 * result + (height != +0.0f ? Float.floatToIntBits(height) : 0);
-    result = 31 * result + (vec != null ? vec.hashCode() : 0);
+    result = 31 * result + Arrays.hashCode(vec);
     return result;
   }
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul;
+
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.ext.consul.impl.CoordinateCacheImpl;
+
+import java.util.List;
+
+/**
+ * Local cache of the network coordinates of the nodes in the datacenter, kept up to date by a blocking query watch.
+ * It estimates the round trip time between the nodes, so the lists of nodes and services can be sorted
+ * by proximity locally, instead of using the {@code near} parameter of the queries.
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ * @see <a href="https://www.consul.io/docs/internals/coordinates.html">Network Coordinates</a>
+ */
+@VertxGen
+public interface CoordinateCache {
+
+  /**
+   * Create a coordinate cache.
+   *
+   * @param vertx   the {@code Vertx} instance
+   * @param options the options to create underlying Consul client
+   * @return the cache
+   */
+  static CoordinateCache create(Vertx vertx, ConsulClientOptions options) {
+    return new CoordinateCacheImpl(vertx, options);
+  }
+
+  /**
+   * Start watching the coordinates. A closed cache can not be restarted.
+   *
+   * @return a future completed when the coordinates are initially loaded, or failed if the first request failed
+   * or if the cache is closed
+   */
+  Future<Void> start();
+
+  /**
+   * Get the coordinate of the node
+   *
+   * @param node the node name
+   * @return the coordinate, or {@code null} if it is unknown
+   */
+  Coordinate get(String node);
+
+  /**
+   * Estimate the round trip time between the nodes. As the coordinates themselves and {@link PackedCoordinates#rtt(int, int)},
+   * it is expressed in seconds.
+   *
+   * @param from the node name
+   * @param to   the node name
+   * @return the estimated round trip time in seconds, or {@code -1} if the coordinate of any node is unknown
+   */
+  double rtt(String from, String to);
+
+  /**
+   * Sort the nodes by the estimated round trip time from the node. The nodes with unknown coordinates are placed last.
+   *
+   * @param from  the node name
+   * @param nodes the nodes to sort
+   * @return the sorted copy of the list
+   */
+  List<Node> sortNodes(String from, List<Node> nodes);
+
+  /**
+   * Sort the service instances by the estimated round trip time from the node to the instance node.
+   * The instances on nodes with unknown coordinates are placed last.
+   *
+   * @param from    the node name
+   * @param entries the service instances to sort
+   * @return the sorted copy of the list
+   */
+  List<ServiceEntry> sortServiceEntries(String from, List<ServiceEntry> entries);
+
+  /**
+   * Stop watching the coordinates. The cache can not be started again, a start which is not completed yet is failed.
+   */
+  void close();
+}
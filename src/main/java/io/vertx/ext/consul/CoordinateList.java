@@ -16,10 +16,12 @@
 package io.vertx.ext.consul;
 
 import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.json.annotations.JsonGen;
 import io.vertx.core.json.JsonObject;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 
@@ -33,6 +35,7 @@ import java.util.List;
 public class CoordinateList {
 
   private long index;
+  private QueryMeta meta;
   private List<Coordinate> list;
 
   /**
@@ -47,6 +50,7 @@ public class CoordinateList {
    */
   public CoordinateList(CoordinateList other) {
     this.index = other.index;
+    this.meta = other.meta == null ? null : new QueryMeta(other.meta);
     this.list = other.list;
   }
 
@@ -99,6 +103,26 @@ public class CoordinateList {
     return this;
   }
 
+  /**
+   * Get the metadata of the read, which tells how stale the result can be
+   *
+   * @return the query metadata
+   */
+  public QueryMeta getMeta() {
+    return meta;
+  }
+
+  /**
+   * Set the metadata of the read
+   *
+   * @param meta the query metadata
+   * @return reference to this, for fluency
+   */
+  public CoordinateList setMeta(QueryMeta meta) {
+    this.meta = meta;
+    return this;
+  }
+
   /**
    * Set list of coordinates
    *
@@ -110,6 +134,16 @@ public class CoordinateList {
     return this;
   }
 
+  /**
+   * Convert to the column-oriented form, suitable for bulk distance computations
+   *
+   * @return the packed coordinates
+   */
+  @GenIgnore
+  public PackedCoordinates pack() {
+    return PackedCoordinates.of(list == null ? Collections.emptyList() : list);
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -18,8 +18,11 @@ package io.vertx.ext.consul;
 import io.vertx.codegen.annotations.DataObject;
 import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
 
+import java.util.Objects;
+
 /**
  * Represents key/value pair stored in Consul
  *
@@ -32,6 +35,8 @@ public class KeyValue implements TxnResult {
 
   private String key;
   private String value;
+  private Buffer rawValue;
+  private String decoded;
   private String session;
   private long flags;
   private long createIndex;
@@ -51,6 +56,7 @@ public class KeyValue implements TxnResult {
   public KeyValue(KeyValue other) {
     this.key = other.key;
     this.value = other.value;
+    this.rawValue = other.rawValue;
     this.session = other.session;
     this.flags = other.flags;
     this.createIndex = other.createIndex;
@@ -109,12 +115,19 @@ public class KeyValue implements TxnResult {
   }
 
   /**
-   * Get the value. In case if KeyValue is result of transaction, value can be empty
+   * Get the value. In case if KeyValue is result of transaction, value can be empty.
+   * If only the raw value is set, it is decoded as UTF-8 string on the first call.
    *
    * @return the value
    */
   public String getValue() {
-    return value;
+    if (value != null || rawValue == null) {
+      return value;
+    }
+    if (decoded == null) {
+      decoded = rawValue.toString();
+    }
+    return decoded;
   }
 
   /**
@@ -128,6 +141,28 @@ public class KeyValue implements TxnResult {
     return this;
   }
 
+  /**
+   * Get the value as raw bytes. It is set instead of the string value by the values read from Consul,
+   * so binary values are not corrupted by a conversion to a string
+   *
+   * @return the raw value
+   */
+  public Buffer getRawValue() {
+    return rawValue;
+  }
+
+  /**
+   * Set the value as raw bytes
+   *
+   * @param rawValue the raw value
+   * @return reference to this, for fluency
+   */
+  public KeyValue setRawValue(Buffer rawValue) {
+    this.rawValue = rawValue;
+    this.decoded = null;
+    return this;
+  }
+
   /**
    * Get the session that owns the lock
    *
@@ -246,14 +281,16 @@ public class KeyValue implements TxnResult {
     if (modifyIndex != keyValue.modifyIndex) return false;
     if (lockIndex != keyValue.lockIndex) return false;
     if (key != null ? !key.equals(keyValue.key) : keyValue.key != null) return false;
-    if (value != null ? !value.equals(keyValue.value) : keyValue.value != null) return false;
+    if (rawValue != null ? !rawValue.equals(keyValue.rawValue) : keyValue.rawValue != null) return false;
+    if ((value != null || keyValue.value != null) && !Objects.equals(getValue(), keyValue.getValue())) return false;
     return session != null ? session.equals(keyValue.session) : keyValue.session == null;
   }
 
   @Override
   public int hashCode() {
     int result = key != null ? key.hashCode() : 0;
-    result = 31 * result + (value != null ? value.hashCode() : 0);
+    // the string value is derived from the raw one if it is set
+    result = 31 * result + (rawValue != null ? rawValue.hashCode() : value != null ? value.hashCode() : 0);
     result = 31 * result + (session != null ? session.hashCode() : 0);
     result = 31 * result + (int) (flags ^ (flags >>> 32));
     result = 31 * result + (int) (createIndex ^ (createIndex >>> 32));
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.GenIgnore;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Holds the changes of key/value pairs under a prefix between two consecutive blocking query results
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class KeyValueDiff {
+
+  private long index;
+  private List<KeyValue> added = Collections.emptyList();
+  private List<KeyValue> modified = Collections.emptyList();
+  private List<KeyValue> removed = Collections.emptyList();
+
+  /**
+   * Default constructor
+   */
+  public KeyValueDiff() {}
+
+  /**
+   * Copy constructor
+   *
+   * @param other the one to copy
+   */
+  public KeyValueDiff(KeyValueDiff other) {
+    this.index = other.index;
+    this.added = other.added;
+    this.modified = other.modified;
+    this.removed = other.removed;
+  }
+
+  /**
+   * Constructor from JSON
+   *
+   * @param json the JSON
+   */
+  public KeyValueDiff(JsonObject json) {
+    KeyValueDiffConverter.fromJson(json, this);
+  }
+
+  /**
+   * Convert to JSON
+   *
+   * @return the JSON
+   */
+  public JsonObject toJson() {
+    JsonObject jsonObject = new JsonObject();
+    KeyValueDiffConverter.toJson(this, jsonObject);
+    return jsonObject;
+  }
+
+  /**
+   * Return {@code true} if there are no changes, otherwise {@code false}.
+   *
+   * @return {@code true} if there are no changes, otherwise {@code false}
+   */
+  @GenIgnore
+  public boolean isEmpty() {
+    return (added == null || added.isEmpty())
+      && (modified == null || modified.isEmpty())
+      && (removed == null || removed.isEmpty());
+  }
+
+  /**
+   * Get Consul index
+   *
+   * @return the consul index
+   */
+  public long getIndex() {
+    return index;
+  }
+
+  /**
+   * Set Consul index
+   *
+   * @param index the consul index
+   * @return reference to this, for fluency
+   */
+  public KeyValueDiff setIndex(long index) {
+    this.index = index;
+    return this;
+  }
+
+  /**
+   * Get the key/value pairs which were created
+   *
+   * @return list of created key/value pairs
+   */
+  public List<KeyValue> getAdded() {
+    return added;
+  }
+
+  /**
+   * Set the key/value pairs which were created
+   *
+   * @param added list of created key/value pairs
+   * @return reference to this, for fluency
+   */
+  public KeyValueDiff setAdded(List<KeyValue> added) {
+    this.added = added;
+    return this;
+  }
+
+  /**
+   * Get the key/value pairs which were modified, i.e. its {@code ModifyIndex} was changed
+   *
+   * @return list of new versions of modified key/value pairs
+   */
+  public List<KeyValue> getModified() {
+    return modified;
+  }
+
+  /**
+   * Set the key/value pairs which were modified
+   *
+   * @param modified list of new versions of modified key/value pairs
+   * @return reference to this, for fluency
+   */
+  public KeyValueDiff setModified(List<KeyValue> modified) {
+    this.modified = modified;
+    return this;
+  }
+
+  /**
+   * Get the key/value pairs which were removed
+   *
+   * @return list of last known versions of removed key/value pairs
+   */
+  public List<KeyValue> getRemoved() {
+    return removed;
+  }
+
+  /**
+   * Set the key/value pairs which were removed
+   *
+   * @param removed list of last known versions of removed key/value pairs
+   * @return reference to this, for fluency
+   */
+  public KeyValueDiff setRemoved(List<KeyValue> removed) {
+    this.removed = removed;
+    return this;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+
+    KeyValueDiff that = (KeyValueDiff) o;
+
+    if (index != that.index) return false;
+    if (!Objects.equals(added, that.added)) return false;
+    if (!Objects.equals(modified, that.modified)) return false;
+    return Objects.equals(removed, that.removed);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = (int) (index ^ (index >>> 32));
+    result = 31 * result + (added != null ? added.hashCode() : 0);
+    result = 31 * result + (modified != null ? modified.hashCode() : 0);
+    result = 31 * result + (removed != null ? removed.hashCode() : 0);
+    return result;
+  }
+}
@@ -34,6 +34,7 @@ import java.util.List;
 public class KeyValueList {
 
   private long index;
+  private QueryMeta meta;
   private List<KeyValue> list;
 
   /**
@@ -48,6 +49,7 @@ public class KeyValueList {
    */
   public KeyValueList(KeyValueList other) {
     this.index = other.index;
+    this.meta = other.meta == null ? null : new QueryMeta(other.meta);
     this.list = other.list;
   }
 
@@ -101,6 +103,26 @@ public class KeyValueList {
     return this;
   }
 
+  /**
+   * Get the metadata of the read, which tells how stale the result can be
+   *
+   * @return the query metadata
+   */
+  public QueryMeta getMeta() {
+    return meta;
+  }
+
+  /**
+   * Set the metadata of the read
+   *
+   * @param meta the query metadata
+   * @return reference to this, for fluency
+   */
+  public KeyValueList setMeta(QueryMeta meta) {
+    this.meta = meta;
+    return this;
+  }
+
   /**
    * Get list of key/value pairs
    *
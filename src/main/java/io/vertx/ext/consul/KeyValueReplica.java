@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul;
+
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.ext.consul.impl.KeyValueReplicaImpl;
+
+import java.util.List;
+
+/**
+ * In-memory replica of the key/value pairs under a prefix in the KV store.
+ * The replica is kept up to date by a blocking query watch and serves the reads locally, without network round trips.
+ * All the reads are served from the state of the KV store at the {@link #index()} of the replica.
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+@VertxGen
+public interface KeyValueReplica {
+
+  /**
+   * Create a replica of the key/value pairs under the prefix.
+   *
+   * @param vertx     the {@code Vertx} instance
+   * @param keyPrefix the prefix of the replicated keys
+   * @param options   the options to create underlying Consul client
+   * @return the replica
+   */
+  static KeyValueReplica create(Vertx vertx, String keyPrefix, ConsulClientOptions options) {
+    return new KeyValueReplicaImpl(vertx, keyPrefix, options);
+  }
+
+  /**
+   * Start the replication.
+   *
+   * @return a future completed when the replica is initially synchronized with the KV store,
+   * or failed if the first request to the KV store failed. The replication is retried in the latter case.
+   */
+  Future<Void> start();
+
+  /**
+   * Stop the replication. The replica keeps serving the last known state.
+   */
+  void close();
+
+  /**
+   * Get the Consul index of the replicated state
+   *
+   * @return the Consul index, or {@code 0} if the replica is not synchronized yet
+   */
+  long index();
+
+  /**
+   * Get the key/value pair
+   *
+   * @param key the key
+   * @return the key/value pair, or {@code null} if there is no such key in the replica
+   */
+  KeyValue get(String key);
+
+  /**
+   * Get the list of the keys which start with the prefix
+   *
+   * @param keyPrefix the prefix
+   * @return the sorted list of keys
+   */
+  List<String> getKeys(String keyPrefix);
+
+  /**
+   * Get the list of the key/value pairs which keys start with the prefix
+   *
+   * @param keyPrefix the prefix
+   * @return the list of key/value pairs sorted by key, with the Consul index of the state they were read from
+   */
+  KeyValueList getValues(String keyPrefix);
+
+  /**
+   * Wait until the replica reaches the Consul index, e.g. the index returned by a write.
+   *
+   * @param index the Consul index
+   * @return a future completed when the index of the replica is greater or equal to the requested index,
+   * or failed if the replica is closed before
+   */
+  Future<Void> awaitIndex(long index);
+}
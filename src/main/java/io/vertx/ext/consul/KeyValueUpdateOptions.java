@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Options used by the optimistic updates of the KV store, see {@link ConsulClient#updateValueWithOptions}.
+ * An update which lost the race with a concurrent write is retried after a random delay between {@code 0}
+ * and the backoff, which is doubled by each retry up to {@link #getMaxBackoff()}.
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class KeyValueUpdateOptions {
+
+  /**
+   * The default maximum number of attempts = 10
+   */
+  public static final int DEFAULT_MAX_ATTEMPTS = 10;
+
+  /**
+   * The default backoff of the first retry = 10 milliseconds
+   */
+  public static final long DEFAULT_BACKOFF = 10;
+
+  /**
+   * The default maximum backoff = 1 second
+   */
+  public static final long DEFAULT_MAX_BACKOFF = 1000;
+
+  private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+  private long backoff = DEFAULT_BACKOFF;
+  private long maxBackoff = DEFAULT_MAX_BACKOFF;
+  private boolean waitForChange;
+
+  /**
+   * Default constructor
+   */
+  public KeyValueUpdateOptions() {}
+
+  /**
+   * Copy constructor
+   *
+   * @param options the one to copy
+   */
+  public KeyValueUpdateOptions(KeyValueUpdateOptions options) {
+    this.maxAttempts = options.maxAttempts;
+    this.backoff = options.backoff;
+    this.maxBackoff = options.maxBackoff;
+    this.waitForChange = options.waitForChange;
+  }
+
+  /**
+   * Constructor from JSON
+   *
+   * @param options the JSON
+   */
+  public KeyValueUpdateOptions(JsonObject options) {
+    this();
+    KeyValueUpdateOptionsConverter.fromJson(options, this);
+  }
+
+  /**
+   * Convert to JSON
+   *
+   * @return the JSON
+   */
+  public JsonObject toJson() {
+    JsonObject jsonObject = new JsonObject();
+    KeyValueUpdateOptionsConverter.toJson(this, jsonObject);
+    return jsonObject;
+  }
+
+  /**
+   * Get the maximum number of attempts
+   *
+   * @return the maximum number of attempts
+   */
+  public int getMaxAttempts() {
+    return maxAttempts;
+  }
+
+  /**
+   * Set the maximum number of attempts. The update fails when all the attempts lost the race with concurrent writes.
+   *
+   * @param maxAttempts the maximum number of attempts
+   * @return reference to this, for fluency
+   */
+  public KeyValueUpdateOptions setMaxAttempts(int maxAttempts) {
+    this.maxAttempts = maxAttempts;
+    return this;
+  }
+
+  /**
+   * Get the backoff of the first retry in milliseconds
+   *
+   * @return the backoff
+   */
+  public long getBackoff() {
+    return backoff;
+  }
+
+  /**
+   * Set the backoff of the first retry in milliseconds
+   *
+   * @param backoff the backoff
+   * @return reference to this, for fluency
+   */
+  public KeyValueUpdateOptions setBackoff(long backoff) {
+    this.backoff = backoff;
+    return this;
+  }
+
+  /**
+   * Get the maximum backoff in milliseconds
+   *
+   * @return the maximum backoff
+   */
+  public long getMaxBackoff() {
+    return maxBackoff;
+  }
+
+  /**
+   * Set the maximum backoff in milliseconds
+   *
+   * @param maxBackoff the maximum backoff
+   * @return reference to this, for fluency
+   */
+  public KeyValueUpdateOptions setMaxBackoff(long maxBackoff) {
+    this.maxBackoff = maxBackoff;
+    return this;
+  }
+
+  /**
+   * Get whether the retries re-read the value by a blocking query
+   *
+   * @return {@code true} if the retries re-read the value by a blocking query
+   */
+  public boolean isWaitForChange() {
+    return waitForChange;
+  }
+
+  /**
+   * Set whether the retries re-read the value by a blocking query on the {@code ModifyIndex} of the conflicting read,
+   * instead of waiting for the backoff. The blocking query returns as soon as the agent knows a newer version
+   * of the value, so the retry is never applied to the stale value again, e.g. when reading from a lagging server.
+   * The blocking query waits at most {@link #getMaxBackoff()}.
+   *
+   * @param waitForChange {@code true} if the retries re-read the value by a blocking query
+   * @return reference to this, for fluency
+   */
+  public KeyValueUpdateOptions setWaitForChange(boolean waitForChange) {
+    this.waitForChange = waitForChange;
+    return this;
+  }
+}
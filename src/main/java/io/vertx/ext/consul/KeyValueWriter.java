@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul;
+
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.ext.consul.impl.KeyValueWriterImpl;
+
+/**
+ * Write-behind writer of key/value pairs. The writes are buffered and sent in batches by transactions,
+ * so bursts of writes produce a few transactions instead of a request per key.
+ * <p>
+ * A batch is flushed when it reaches {@link KeyValueWriterOptions#getMaxBatchSize()} writes,
+ * or {@link KeyValueWriterOptions#getFlushInterval()} after its first write. Only one batch is sent at a time,
+ * the writes made meanwhile are buffered in the next batches. Repeated plain writes of the same key
+ * in a buffered batch are coalesced, only the last value is sent.
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+@VertxGen
+public interface KeyValueWriter {
+
+  /**
+   * Create a writer.
+   *
+   * @param vertx         the {@code Vertx} instance
+   * @param options       the options to create underlying Consul client
+   * @param writerOptions the writer options
+   * @return the writer
+   */
+  static KeyValueWriter create(Vertx vertx, ConsulClientOptions options, KeyValueWriterOptions writerOptions) {
+    return new KeyValueWriterImpl(vertx, options, writerOptions);
+  }
+
+  /**
+   * Buffers the write of the key/value pair.
+   *
+   * @param key   the key
+   * @param value the value
+   * @return a future provided with success of operation, completed when the batch of the write is committed.
+   * If the write was coalesced with a later write of the same key, the future is completed with the result of the latter.
+   * @see ConsulClient#putValue(String, String)
+   */
+  Future<Boolean> put(String key, String value);
+
+  /**
+   * Buffers the write of the key/value pair. The writes with a Check-And-Set index or a session
+   * are sent as {@link TxnKVVerb#CAS}, {@link TxnKVVerb#LOCK} or {@link TxnKVVerb#UNLOCK} operations and are never coalesced.
+   *
+   * @param key     the key
+   * @param value   the value
+   * @param options options used to push pair
+   * @return a future provided with success of operation, i.e. {@code false} if the Check-And-Set index
+   * or the session does not match
+   * @see ConsulClient#putValueWithOptions(String, String, KeyValueOptions)
+   */
+  Future<Boolean> putWithOptions(String key, String value, KeyValueOptions options);
+
+  /**
+   * Flush the buffered writes.
+   *
+   * @return a future completed when all the writes buffered before the call are committed
+   */
+  Future<Void> flush();
+
+  /**
+   * Get the number of writes which are not completed yet, either buffered or sent by the transaction in flight
+   *
+   * @return the number of pending writes
+   */
+  int pending();
+
+  /**
+   * Get the number of writes which were coalesced with a later write of the same key
+   *
+   * @return the number of coalesced writes
+   */
+  long coalescedCount();
+
+  /**
+   * Get the number of batches sent by the writer. A batch partly rolled back by Consul is sent again without
+   * the writes which caused the errors, it is still counted once.
+   *
+   * @return the number of batches
+   */
+  long batchCount();
+
+  /**
+   * Flush the buffered writes and close the writer. The writes made after the call fail.
+   *
+   * @return a future completed when the buffered writes are committed
+   */
+  Future<Void> close();
+}
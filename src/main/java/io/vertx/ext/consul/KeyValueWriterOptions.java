@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Options used to create {@link KeyValueWriter}.
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class KeyValueWriterOptions {
+
+  /**
+   * The default maximum number of writes sent in a single transaction = 64, the maximum accepted by Consul
+   */
+  public static final int DEFAULT_MAX_BATCH_SIZE = TxnRequest.MAX_OPERATIONS;
+
+  /**
+   * The default time a write is buffered before the batch is flushed = 10 milliseconds
+   */
+  public static final long DEFAULT_FLUSH_INTERVAL = 10;
+
+  private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+  private long flushInterval = DEFAULT_FLUSH_INTERVAL;
+
+  /**
+   * Default constructor
+   */
+  public KeyValueWriterOptions() {}
+
+  /**
+   * Copy constructor
+   *
+   * @param options the one to copy
+   */
+  public KeyValueWriterOptions(KeyValueWriterOptions options) {
+    this.maxBatchSize = options.maxBatchSize;
+    this.flushInterval = options.flushInterval;
+  }
+
+  /**
+   * Constructor from JSON
+   *
+   * @param options the JSON
+   */
+  public KeyValueWriterOptions(JsonObject options) {
+    this();
+    KeyValueWriterOptionsConverter.fromJson(options, this);
+  }
+
+  /**
+   * Convert to JSON
+   *
+   * @return the JSON
+   */
+  public JsonObject toJson() {
+    JsonObject jsonObject = new JsonObject();
+    KeyValueWriterOptionsConverter.toJson(this, jsonObject);
+    return jsonObject;
+  }
+
+  /**
+   * Get the maximum number of writes sent in a single transaction
+   *
+   * @return the maximum batch size
+   */
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  /**
+   * Set the maximum number of writes sent in a single transaction. The batch is flushed as soon as it is full.
+   * The values greater than {@link #DEFAULT_MAX_BATCH_SIZE} are rejected by Consul, the writer uses that limit instead.
+   *
+   * @param maxBatchSize the maximum batch size
+   * @return reference to this, for fluency
+   */
+  public KeyValueWriterOptions setMaxBatchSize(int maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+    return this;
+  }
+
+  /**
+   * Get the time in milliseconds a write is buffered before the batch is flushed
+   *
+   * @return the flush interval
+   */
+  public long getFlushInterval() {
+    return flushInterval;
+  }
+
+  /**
+   * Set the time in milliseconds a write is buffered before the batch is flushed.
+   * The repeated writes of the same key within this time are coalesced into a single write of the last value.
+   *
+   * @param flushInterval the flush interval
+   * @return reference to this, for fluency
+   */
+  public KeyValueWriterOptions setFlushInterval(long flushInterval) {
+    this.flushInterval = flushInterval;
+    return this;
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * Represents the way {@link ServiceLoadBalancer} selects an instance of the service
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+@VertxGen
+public enum LoadBalancerStrategy {
+  /**
+   * Instances are selected one after another
+   */
+  ROUND_ROBIN,
+  /**
+   * Two random instances are compared and the one with less requests in flight is selected
+   */
+  POWER_OF_TWO_CHOICES,
+  /**
+   * A random instance is selected with the probability proportional to its weight,
+   * see {@link Service#getPassingWeight()} and {@link Service#getWarningWeight()}
+   */
+  WEIGHTED_RANDOM
+}
@@ -16,6 +16,7 @@
 package io.vertx.ext.consul;
 
 import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.json.annotations.JsonGen;
 import io.vertx.core.json.JsonObject;
 
@@ -27,7 +28,7 @@ import java.util.Objects;
  */
 @DataObject
 @JsonGen(publicConverter = false)
-public class Node {
+public class Node implements TxnResult {
 
   private String id;
   private String node;
@@ -242,4 +243,10 @@ public class Node {
     result = 31 * result + (nodeMeta != null ? nodeMeta.hashCode() : 0);
     return result;
   }
+
+  @GenIgnore
+  @Override
+  public TxnOperationType getOperationType() {
+    return TxnOperationType.NODE;
+  }
 }
@@ -33,6 +33,7 @@ import java.util.List;
 public class NodeList {
 
   private long index;
+  private QueryMeta meta;
   private List<Node> list;
 
   /**
@@ -47,6 +48,7 @@ public class NodeList {
    */
   public NodeList(NodeList other) {
     this.index = other.index;
+    this.meta = other.meta == null ? null : new QueryMeta(other.meta);
     this.list = other.list;
   }
 
@@ -90,6 +92,26 @@ public class NodeList {
     return this;
   }
 
+  /**
+   * Get the metadata of the read, which tells how stale the result can be
+   *
+   * @return the query metadata
+   */
+  public QueryMeta getMeta() {
+    return meta;
+  }
+
+  /**
+   * Set the metadata of the read
+   *
+   * @param meta the query metadata
+   * @return reference to this, for fluency
+   */
+  public NodeList setMeta(QueryMeta meta) {
+    this.meta = meta;
+    return this;
+  }
+
   /**
    * Get list of nodes
    *
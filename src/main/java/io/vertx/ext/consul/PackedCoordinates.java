@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable column-oriented form of a list of network coordinates. The vectors of all the nodes are packed
+ * into a single primitive array, so the distances can be computed in bulk without boxing and without
+ * walking per-node objects.
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ * @see CoordinateList#pack()
+ */
+public final class PackedCoordinates {
+
+  private final String[] nodes;
+  private final int dimensions;
+  private final float[] vectors;
+  private final float[] heights;
+  private final float[] adjustments;
+  private final float[] errors;
+  private final Map<String, Integer> indexes;
+
+  private PackedCoordinates(List<Coordinate> list) {
+    int size = list.size();
+    int dims = 0;
+    for (Coordinate coordinate : list) {
+      float[] vec = coordinate.getVecArray();
+      if (vec != null && vec.length > dims) {
+        dims = vec.length;
+      }
+    }
+    this.dimensions = dims;
+    this.nodes = new String[size];
+    this.vectors = new float[size * dims];
+    this.heights = new float[size];
+    this.adjustments = new float[size];
+    this.errors = new float[size];
+    this.indexes = new HashMap<>(size * 2);
+    for (int i = 0; i < size; i++) {
+      Coordinate coordinate = list.get(i);
+      nodes[i] = coordinate.getNode();
+      heights[i] = coordinate.getHeight();
+      adjustments[i] = coordinate.getAdj();
+      errors[i] = coordinate.getErr();
+      float[] vec = coordinate.getVecArray();
+      if (vec != null) {
+        System.arraycopy(vec, 0, vectors, i * dims, vec.length);
+      }
+      indexes.put(nodes[i], i);
+    }
+  }
+
+  /**
+   * Pack the coordinates
+   *
+   * @param list the coordinates
+   * @return the packed coordinates
+   */
+  public static PackedCoordinates of(List<Coordinate> list) {
+    return new PackedCoordinates(list);
+  }
+
+  /**
+   * @return the number of coordinates
+   */
+  public int size() {
+    return nodes.length;
+  }
+
+  /**
+   * @return the number of dimensions of the vectors
+   */
+  public int dimensions() {
+    return dimensions;
+  }
+
+  /**
+   * @param node the node name
+   * @return the position of the node coordinate, or {@code -1} if there is no such node
+   */
+  public int indexOf(String node) {
+    Integer index = indexes.get(node);
+    return index == null ? -1 : index;
+  }
+
+  /**
+   * @param i the position of the coordinate
+   * @return the node name
+   */
+  public String node(int i) {
+    return nodes[i];
+  }
+
+  /**
+   * @param i the position of the coordinate
+   * @return the coordinate as a new {@link Coordinate} object
+   */
+  public Coordinate coordinate(int i) {
+    float[] vec = new float[dimensions];
+    System.arraycopy(vectors, i * dimensions, vec, 0, dimensions);
+    return new Coordinate()
+      .setNode(nodes[i])
+      .setHeight(heights[i])
+      .setAdj(adjustments[i])
+      .setErr(errors[i])
+      .setVecArray(vec);
+  }
+
+  /**
+   * Estimate the round trip time between two nodes, the same way as Consul does
+   *
+   * @param i the position of the first coordinate
+   * @param j the position of the second coordinate
+   * @return the round trip time in seconds
+   */
+  public double rtt(int i, int j) {
+    int a = i * dimensions;
+    int b = j * dimensions;
+    double sum = 0;
+    for (int k = 0; k < dimensions; k++) {
+      double diff = vectors[a + k] - vectors[b + k];
+      sum += diff * diff;
+    }
+    double rtt = Math.sqrt(sum) + heights[i] + heights[j];
+    double adjusted = rtt + adjustments[i] + adjustments[j];
+    return adjusted > 0 ? adjusted : rtt;
+  }
+
+  /**
+   * Estimate the round trip times from one node to all the nodes
+   *
+   * @param from the position of the coordinate
+   * @param out  the array of at least {@link #size()} elements to store the round trip times in seconds
+   */
+  public void rtt(int from, double[] out) {
+    for (int j = 0; j < nodes.length; j++) {
+      out[j] = rtt(from, j);
+    }
+  }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Holds the metadata of a read served by Consul, which tells how stale the result can be
+ * and whether it was served from the agent cache.
+ * It is response metadata, so the lists carrying it keep it out of equals/hashCode.
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class QueryMeta {
+
+  private long lastContact;
+  private boolean knownLeader;
+  private boolean cacheHit;
+  private long cacheAge;
+
+  /**
+   * Default constructor
+   */
+  public QueryMeta() {}
+
+  /**
+   * Copy constructor
+   *
+   * @param other the one to copy
+   */
+  public QueryMeta(QueryMeta other) {
+    this.lastContact = other.lastContact;
+    this.knownLeader = other.knownLeader;
+    this.cacheHit = other.cacheHit;
+    this.cacheAge = other.cacheAge;
+  }
+
+  /**
+   * Constructor from JSON
+   *
+   * @param json the JSON
+   */
+  public QueryMeta(JsonObject json) {
+    QueryMetaConverter.fromJson(json, this);
+  }
+
+  /**
+   * Convert to JSON
+   *
+   * @return the JSON
+   */
+  public JsonObject toJson() {
+    JsonObject jsonObject = new JsonObject();
+    QueryMetaConverter.toJson(this, jsonObject);
+    return jsonObject;
+  }
+
+  /**
+   * Get the time in milliseconds since the server which served the read last contacted the leader.
+   * It is always {@code 0} for reads served by the leader, see {@link ConsistencyMode#STALE}
+   *
+   * @return the time since the last contact with the leader
+   */
+  public long getLastContact() {
+    return lastContact;
+  }
+
+  /**
+   * Set the time in milliseconds since the server which served the read last contacted the leader
+   *
+   * @param lastContact the time since the last contact with the leader
+   * @return reference to this, for fluency
+   */
+  public QueryMeta setLastContact(long lastContact) {
+    this.lastContact = lastContact;
+    return this;
+  }
+
+  /**
+   * Return {@code true} if the server which served the read knew the leader, otherwise {@code false}.
+   *
+   * @return {@code true} if the leader was known
+   */
+  public boolean isKnownLeader() {
+    return knownLeader;
+  }
+
+  /**
+   * Set whether the server which served the read knew the leader
+   *
+   * @param knownLeader {@code true} if the leader was known
+   * @return reference to this, for fluency
+   */
+  public QueryMeta setKnownLeader(boolean knownLeader) {
+    this.knownLeader = knownLeader;
+    return this;
+  }
+
+  /**
+   * Return {@code true} if the result was served from the agent cache without a request to the servers,
+   * see {@link BlockingQueryOptions#setCacheOptions(AgentCacheOptions)}
+   *
+   * @return {@code true} if the result was served from the agent cache
+   */
+  public boolean isCacheHit() {
+    return cacheHit;
+  }
+
+  /**
+   * Set whether the result was served from the agent cache without a request to the servers
+   *
+   * @param cacheHit {@code true} if the result was served from the agent cache
+   * @return reference to this, for fluency
+   */
+  public QueryMeta setCacheHit(boolean cacheHit) {
+    this.cacheHit = cacheHit;
+    return this;
+  }
+
+  /**
+   * Get the age of the cached result in seconds, {@code 0} for the results which were not served from the agent cache
+   *
+   * @return the age of the cached result
+   */
+  public long getCacheAge() {
+    return cacheAge;
+  }
+
+  /**
+   * Set the age of the cached result in seconds
+   *
+   * @param cacheAge the age of the cached result
+   * @return reference to this, for fluency
+   */
+  public QueryMeta setCacheAge(long cacheAge) {
+    this.cacheAge = cacheAge;
+    return this;
+  }
+}
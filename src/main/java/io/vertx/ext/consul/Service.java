@@ -23,6 +23,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import static io.vertx.ext.consul.impl.Utils.listOf;
@@ -46,6 +47,9 @@ public class Service implements TxnResult {
   private static final String SERVICE_PORT = "ServicePort";
   private static final String CREATE_INDEX = "CreateIndex";
   private static final String MODIFY_INDEX = "ModifyIndex";
+  private static final String SERVICE_WEIGHTS = "ServiceWeights";
+  private static final String WEIGHTS_PASSING = "Passing";
+  private static final String WEIGHTS_WARNING = "Warning";
 
   private String node;
   private String nodeAddress;
@@ -57,6 +61,8 @@ public class Service implements TxnResult {
   private int port;
   private long createIndex;
   private long modifyIndex;
+  private int passingWeight;
+  private int warningWeight;
 
   /**
    * Default constructor
@@ -80,6 +86,8 @@ public class Service implements TxnResult {
     this.port = other.port;
     this.createIndex = other.createIndex;
     this.modifyIndex = other.modifyIndex;
+    this.passingWeight = other.passingWeight;
+    this.warningWeight = other.warningWeight;
   }
 
   /**
@@ -98,6 +106,11 @@ public class Service implements TxnResult {
     this.port = service.getInteger(SERVICE_PORT, 0);
     this.createIndex = service.getLong(CREATE_INDEX, 0l);
     this.modifyIndex = service.getLong(MODIFY_INDEX, 0l);
+    JsonObject weights = service.getJsonObject(SERVICE_WEIGHTS);
+    if (weights != null) {
+      this.passingWeight = weights.getInteger(WEIGHTS_PASSING, 0);
+      this.warningWeight = weights.getInteger(WEIGHTS_WARNING, 0);
+    }
   }
 
   /**
@@ -137,6 +150,9 @@ public class Service implements TxnResult {
     if (modifyIndex != 0l) {
       jsonObject.put(MODIFY_INDEX, modifyIndex);
     }
+    if (passingWeight != 0 || warningWeight != 0) {
+      jsonObject.put(SERVICE_WEIGHTS, new JsonObject().put(WEIGHTS_PASSING, passingWeight).put(WEIGHTS_WARNING, warningWeight));
+    }
     return jsonObject;
   }
 
@@ -339,6 +355,46 @@ public class Service implements TxnResult {
     return this;
   }
 
+  /**
+   * Get the weight of the service in DNS SRV responses and in client-side load balancing when its checks are passing
+   *
+   * @return the weight, {@code 0} if unknown
+   */
+  public int getPassingWeight() {
+    return passingWeight;
+  }
+
+  /**
+   * Set the weight of the service when its checks are passing
+   *
+   * @param passingWeight the weight
+   * @return reference to this, for fluency
+   */
+  public Service setPassingWeight(int passingWeight) {
+    this.passingWeight = passingWeight;
+    return this;
+  }
+
+  /**
+   * Get the weight of the service in DNS SRV responses and in client-side load balancing when its checks are in warning state
+   *
+   * @return the weight, {@code 0} if unknown
+   */
+  public int getWarningWeight() {
+    return warningWeight;
+  }
+
+  /**
+   * Set the weight of the service when its checks are in warning state
+   *
+   * @param warningWeight the weight
+   * @return reference to this, for fluency
+   */
+  public Service setWarningWeight(int warningWeight) {
+    this.warningWeight = warningWeight;
+    return this;
+  }
+
   @Override
   public TxnOperationType getOperationType() {
     return TxnOperationType.SERVICE;
@@ -354,6 +410,8 @@ public class Service implements TxnResult {
     if (createIndex != service.createIndex) return false;
     if (modifyIndex != service.modifyIndex) return false;
     if (port != service.port) return false;
+    if (passingWeight != service.passingWeight) return false;
+    if (warningWeight != service.warningWeight) return false;
     if (node != null ? !node.equals(service.node) : service.node != null) return false;
     if (nodeAddress != null ? !nodeAddress.equals(service.nodeAddress) : service.nodeAddress != null) return false;
     if (id != null ? !id.equals(service.id) : service.id != null) return false;
@@ -369,15 +427,26 @@ public class Service implements TxnResult {
     result = 31 * result + (nodeAddress != null ? nodeAddress.hashCode() : 0);
     result = 31 * result + (id != null ? id.hashCode() : 0);
     result = 31 * result + (name != null ? name.hashCode() : 0);
-    result = 31 * result + (tags != null ? sortedTags().hashCode() : 0);
+    result = 31 * result + (tags != null ? tagsHashCode() : 0);
     result = 31 * result + (address != null ? address.hashCode() : 0);
     result = 31 * result + (meta != null ? meta.hashCode() : 0);
     result = 31 * result + port;
     result = 31 * result + (int) (createIndex ^ (createIndex >>> 32));
     result = 31 * result + (int) (modifyIndex ^ (modifyIndex >>> 32));
+    result = 31 * result + passingWeight;
+    result = 31 * result + warningWeight;
     return result;
   }
 
+  // does not depend on the order of the tags, as equals, but neither copies nor sorts them
+  private int tagsHashCode() {
+    int hash = 0;
+    for (String tag : tags) {
+      hash += Objects.hashCode(tag);
+    }
+    return hash;
+  }
+
   private List<String> sortedTags() {
     List<String> sorted = null;
     if (tags != null) {
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul;
+
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.ext.consul.impl.ServiceCacheImpl;
+
+/**
+ * Service discovery cache. The first lookup of a service starts a blocking query watch of the service,
+ * the subsequent lookups are served from memory. The services which were not looked up
+ * during {@link ServiceCacheOptions#getIdleTimeout()} are evicted and their watches are stopped.
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+@VertxGen
+public interface ServiceCache {
+
+  /**
+   * Create a service cache.
+   *
+   * @param vertx        the {@code Vertx} instance
+   * @param options      the options to create underlying Consul client
+   * @param cacheOptions the cache options
+   * @return the cache
+   */
+  static ServiceCache create(Vertx vertx, ConsulClientOptions options, ServiceCacheOptions cacheOptions) {
+    return new ServiceCacheImpl(vertx, options, cacheOptions);
+  }
+
+  /**
+   * Returns the nodes providing the service, see {@link ConsulClient#healthServiceNodes(String, boolean)}.
+   * The nodes are sorted by distance from the consul agent. The list of the result is shared with the cache
+   * and the other lookups, so it is unmodifiable.
+   *
+   * @param service the service name
+   * @param passing if true, filter results to only nodes with all checks in the passing state
+   * @return a future provided with the list of services
+   */
+  Future<ServiceEntryList> healthServiceNodes(String service, boolean passing);
+
+  /**
+   * Get the number of lookups served from memory
+   *
+   * @return the number of hits
+   */
+  long hitCount();
+
+  /**
+   * Get the number of lookups which had to wait for a request to the agent
+   *
+   * @return the number of misses
+   */
+  long missCount();
+
+  /**
+   * Get the number of cached services
+   *
+   * @return the number of cached services
+   */
+  int size();
+
+  /**
+   * Stop all the watches and clear the cache.
+   */
+  void close();
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Options used to create {@link ServiceCache}.
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class ServiceCacheOptions {
+
+  /**
+   * The default idle timeout of a cached service = 10 minutes
+   */
+  public static final long DEFAULT_IDLE_TIMEOUT = 10 * 60 * 1000;
+
+  /**
+   * The default maximum number of cached services = 256
+   */
+  public static final int DEFAULT_MAX_ENTRIES = 256;
+
+  private long idleTimeout = DEFAULT_IDLE_TIMEOUT;
+  private int maxEntries = DEFAULT_MAX_ENTRIES;
+
+  /**
+   * Default constructor
+   */
+  public ServiceCacheOptions() {}
+
+  /**
+   * Copy constructor
+   *
+   * @param options the one to copy
+   */
+  public ServiceCacheOptions(ServiceCacheOptions options) {
+    this.idleTimeout = options.idleTimeout;
+    this.maxEntries = options.maxEntries;
+  }
+
+  /**
+   * Constructor from JSON
+   *
+   * @param options the JSON
+   */
+  public ServiceCacheOptions(JsonObject options) {
+    this();
+    ServiceCacheOptionsConverter.fromJson(options, this);
+  }
+
+  /**
+   * Convert to JSON
+   *
+   * @return the JSON
+   */
+  public JsonObject toJson() {
+    JsonObject jsonObject = new JsonObject();
+    ServiceCacheOptionsConverter.toJson(this, jsonObject);
+    return jsonObject;
+  }
+
+  /**
+   * Get the idle timeout in milliseconds
+   *
+   * @return the idle timeout
+   */
+  public long getIdleTimeout() {
+    return idleTimeout;
+  }
+
+  /**
+   * Set the time in milliseconds after which a service that was not looked up is evicted
+   * and the watch refreshing it is stopped
+   *
+   * @param idleTimeout the idle timeout
+   * @return reference to this, for fluency
+   */
+  public ServiceCacheOptions setIdleTimeout(long idleTimeout) {
+    this.idleTimeout = idleTimeout;
+    return this;
+  }
+
+  /**
+   * Get the maximum number of cached services
+   *
+   * @return the maximum number of cached services
+   */
+  public int getMaxEntries() {
+    return maxEntries;
+  }
+
+  /**
+   * Set the maximum number of cached services. When the cache is full, the least recently looked up service is evicted.
+   *
+   * @param maxEntries the maximum number of cached services
+   * @return reference to this, for fluency
+   */
+  public ServiceCacheOptions setMaxEntries(int maxEntries) {
+    this.maxEntries = maxEntries;
+    return this;
+  }
+}
@@ -23,6 +23,7 @@ import io.vertx.ext.consul.impl.Utils;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -164,10 +165,19 @@ public class ServiceEntry {
   public int hashCode() {
     int result = node != null ? node.hashCode() : 0;
     result = 31 * result + (service != null ? service.hashCode() : 0);
-    result = 31 * result + (checks != null ? sorted().hashCode() : 0);
+    result = 31 * result + (checks != null ? checksHashCode() : 0);
     return result;
   }
 
+  // does not depend on the order of the checks, as equals, but neither copies nor sorts them
+  private int checksHashCode() {
+    int hash = 0;
+    for (Check check : checks) {
+      hash += Objects.hashCode(check);
+    }
+    return hash;
+  }
+
   private List<Check> sorted() {
     List<Check> sorted = null;
     if (checks != null) {
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+import java.util.Objects;
+
+/**
+ * Holds the change of a single service instance, identified by its node and service ID
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class ServiceEntryChange {
+
+  private ServiceEntryChangeType type;
+  private ServiceEntry entry;
+  private CheckStatus status;
+
+  /**
+   * Default constructor
+   */
+  public ServiceEntryChange() {}
+
+  /**
+   * Copy constructor
+   *
+   * @param other the one to copy
+   */
+  public ServiceEntryChange(ServiceEntryChange other) {
+    this.type = other.type;
+    this.entry = other.entry;
+    this.status = other.status;
+  }
+
+  /**
+   * Constructor from JSON
+   *
+   * @param json the JSON
+   */
+  public ServiceEntryChange(JsonObject json) {
+    ServiceEntryChangeConverter.fromJson(json, this);
+  }
+
+  /**
+   * Convert to JSON
+   *
+   * @return the JSON
+   */
+  public JsonObject toJson() {
+    JsonObject jsonObject = new JsonObject();
+    ServiceEntryChangeConverter.toJson(this, jsonObject);
+    return jsonObject;
+  }
+
+  /**
+   * Get the type of change
+   *
+   * @return the type of change
+   */
+  public ServiceEntryChangeType getType() {
+    return type;
+  }
+
+  /**
+   * Set the type of change
+   *
+   * @param type the type of change
+   * @return reference to this, for fluency
+   */
+  public ServiceEntryChange setType(ServiceEntryChangeType type) {
+    this.type = type;
+    return this;
+  }
+
+  /**
+   * Get the service instance. This is the last known version for removed instances, otherwise the new one.
+   *
+   * @return the service instance
+   */
+  public ServiceEntry getEntry() {
+    return entry;
+  }
+
+  /**
+   * Set the service instance
+   *
+   * @param entry the service instance
+   * @return reference to this, for fluency
+   */
+  public ServiceEntryChange setEntry(ServiceEntry entry) {
+    this.entry = entry;
+    return this;
+  }
+
+  /**
+   * Get the aggregated status of the instance checks
+   *
+   * @return the aggregated status
+   * @see ServiceEntry#aggregatedStatus()
+   */
+  public CheckStatus getStatus() {
+    return status;
+  }
+
+  /**
+   * Set the aggregated status of the instance checks
+   *
+   * @param status the aggregated status
+   * @return reference to this, for fluency
+   */
+  public ServiceEntryChange setStatus(CheckStatus status) {
+    this.status = status;
+    return this;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+
+    ServiceEntryChange that = (ServiceEntryChange) o;
+
+    if (type != that.type) return false;
+    if (status != that.status) return false;
+    return Objects.equals(entry, that.entry);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = type != null ? type.hashCode() : 0;
+    result = 31 * result + (entry != null ? entry.hashCode() : 0);
+    result = 31 * result + (status != null ? status.hashCode() : 0);
+    return result;
+  }
+}
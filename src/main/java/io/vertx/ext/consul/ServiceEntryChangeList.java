@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.GenIgnore;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Holds the changes of the service instances between two consecutive blocking query results
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class ServiceEntryChangeList {
+
+  private long index;
+  private List<ServiceEntryChange> list = Collections.emptyList();
+
+  /**
+   * Default constructor
+   */
+  public ServiceEntryChangeList() {}
+
+  /**
+   * Copy constructor
+   *
+   * @param other the one to copy
+   */
+  public ServiceEntryChangeList(ServiceEntryChangeList other) {
+    this.index = other.index;
+    this.list = other.list;
+  }
+
+  /**
+   * Constructor from JSON
+   *
+   * @param json the JSON
+   */
+  public ServiceEntryChangeList(JsonObject json) {
+    ServiceEntryChangeListConverter.fromJson(json, this);
+  }
+
+  /**
+   * Convert to JSON
+   *
+   * @return the JSON
+   */
+  public JsonObject toJson() {
+    JsonObject jsonObject = new JsonObject();
+    ServiceEntryChangeListConverter.toJson(this, jsonObject);
+    return jsonObject;
+  }
+
+  /**
+   * Return {@code true} if there are no changes, otherwise {@code false}.
+   *
+   * @return {@code true} if there are no changes, otherwise {@code false}
+   */
+  @GenIgnore
+  public boolean isEmpty() {
+    return list == null || list.isEmpty();
+  }
+
+  /**
+   * Get Consul index
+   *
+   * @return the consul index
+   */
+  public long getIndex() {
+    return index;
+  }
+
+  /**
+   * Set Consul index
+   *
+   * @param index the consul index
+   * @return reference to this, for fluency
+   */
+  public ServiceEntryChangeList setIndex(long index) {
+    this.index = index;
+    return this;
+  }
+
+  /**
+   * Get list of changes
+   *
+   * @return list of changes
+   */
+  public List<ServiceEntryChange> getList() {
+    return list;
+  }
+
+  /**
+   * Set list of changes
+   *
+   * @param list list of changes
+   * @return reference to this, for fluency
+   */
+  public ServiceEntryChangeList setList(List<ServiceEntryChange> list) {
+    this.list = list;
+    return this;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+
+    ServiceEntryChangeList that = (ServiceEntryChangeList) o;
+
+    if (index != that.index) return false;
+    return Objects.equals(list, that.list);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = (int) (index ^ (index >>> 32));
+    result = 31 * result + (list != null ? list.hashCode() : 0);
+    return result;
+  }
+}
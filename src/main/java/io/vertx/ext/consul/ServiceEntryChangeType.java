@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul;
+
+import io.vertx.codegen.annotations.VertxGen;
+
+/**
+ * Represents the type of change of a single service instance between two consecutive blocking query results
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+@VertxGen
+public enum ServiceEntryChangeType {
+  /**
+   * The instance was registered
+   */
+  ADDED,
+  /**
+   * The instance was deregistered or its node left the catalog
+   */
+  REMOVED,
+  /**
+   * Only the aggregated status of the instance checks was changed
+   */
+  STATUS_CHANGED,
+  /**
+   * The node or service properties of the instance (address, port, tags, meta, etc.) were changed
+   */
+  UPDATED
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul;
+
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.ext.consul.impl.ServiceLoadBalancerImpl;
+
+/**
+ * Client-side load balancer over the instances of a service. The instances are kept up to date by a health watch
+ * of the service, the instances with critical checks are excluded. The instances of weight 0 in their current state
+ * are excluded too, unless all the instances are of weight 0. The selection does not allocate and does not lock.
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+@VertxGen
+public interface ServiceLoadBalancer {
+
+  /**
+   * Create a load balancer.
+   *
+   * @param vertx    the {@code Vertx} instance
+   * @param service  the service name
+   * @param strategy the strategy of selection
+   * @param options  the options to create underlying Consul client
+   * @return the load balancer
+   */
+  static ServiceLoadBalancer create(Vertx vertx, String service, LoadBalancerStrategy strategy, ConsulClientOptions options) {
+    return new ServiceLoadBalancerImpl(vertx, service, strategy, options);
+  }
+
+  /**
+   * Start watching the instances of the service. A closed load balancer can not be restarted.
+   *
+   * @return a future completed when the instances are initially loaded, or failed if the first request failed
+   * or if the load balancer is closed
+   */
+  Future<Void> start();
+
+  /**
+   * Select an instance of the service. The instance is counted as having one more request in flight
+   * until it is passed to {@link #release(ServiceEntry)}.
+   *
+   * @return the instance, or {@code null} if there are no available instances
+   */
+  ServiceEntry select();
+
+  /**
+   * Notify the load balancer that a request to the instance is completed.
+   *
+   * @param entry the instance returned by {@link #select()}
+   */
+  void release(ServiceEntry entry);
+
+  /**
+   * Get the number of available instances
+   *
+   * @return the number of available instances
+   */
+  int size();
+
+  /**
+   * Stop watching the instances of the service. The load balancer can not be started again,
+   * a start which is not completed yet is failed.
+   */
+  void close();
+}
@@ -16,6 +16,7 @@
 package io.vertx.ext.consul;
 
 import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.json.annotations.JsonGen;
 import io.vertx.core.json.JsonObject;
 
@@ -29,7 +30,7 @@ import java.util.List;
  */
 @DataObject
 @JsonGen(publicConverter = false)
-public class Session {
+public class Session implements TxnResult {
 
   private long lockDelay;
   private String node;
@@ -233,4 +234,10 @@ public class Session {
     }
     return sorted;
   }
+
+  @GenIgnore
+  @Override
+  public TxnOperationType getOperationType() {
+    return TxnOperationType.SESSION;
+  }
 }
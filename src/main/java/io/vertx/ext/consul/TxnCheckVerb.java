@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul;
+
+/**
+ * Holds the type of Check operation in transaction
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+public enum TxnCheckVerb {
+
+  /**
+   * Sets the check to the given state
+   */
+  SET("set"),
+
+  /**
+   * Sets, but with CAS semantics using the given ModifyIndex
+   */
+  CAS("cas"),
+
+  /**
+   * Get the check, fails if it does not exist
+   */
+  GET("get"),
+
+  /**
+   * Delete the check
+   */
+  DELETE("delete"),
+
+  /**
+   * Delete, but with CAS semantics
+   */
+  DELETE_CAS("delete-cas");
+  public static TxnCheckVerb ofVerb(String verb) {
+    for (TxnCheckVerb type : values()) {
+      if (type.getVerb().equals(verb)) {
+        return type;
+      }
+    }
+    return null;
+  }
+
+  private final String verb;
+
+  TxnCheckVerb(String verb) {
+    this.verb = verb;
+  }
+
+  public String getVerb() {
+    return verb;
+  }
+}
@@ -66,6 +66,11 @@ public enum TxnKVVerb {
    */
   CHECK_INDEX("check-index"),
 
+  /**
+   * Fails the transaction if Key exists
+   */
+  CHECK_NOT_EXISTS("check-not-exists"),
+
   /**
    * Fails the transaction if Key is not currently locked by Session
    */
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.GenIgnore;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Holds the operation to apply to the node inside a transaction
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class TxnNodeOperation implements TxnOperation {
+
+  private TxnNodeVerb type;
+  private Node node;
+  private long index;
+
+  /**
+   * Default constructor
+   */
+  public TxnNodeOperation() {
+  }
+
+  /**
+   * Copy constructor
+   *
+   * @param other the one to copy
+   */
+  public TxnNodeOperation(TxnNodeOperation other) {
+    this.type = other.type;
+    this.node = other.node;
+    this.index = other.index;
+  }
+
+  /**
+   * Constructor from JSON
+   *
+   * @param json the JSON
+   */
+  public TxnNodeOperation(JsonObject json) {
+    TxnNodeOperationConverter.fromJson(json, this);
+  }
+
+  /**
+   * Convert to JSON
+   *
+   * @return the JSON
+   */
+  public JsonObject toJson() {
+    JsonObject jsonObject = new JsonObject();
+    TxnNodeOperationConverter.toJson(this, jsonObject);
+    return jsonObject;
+  }
+
+  /**
+   * Get the type of operation to perform
+   *
+   * @return the type of operation to perform
+   */
+  public TxnNodeVerb getType() {
+    return type;
+  }
+
+  /**
+   * Set the type of operation to perform
+   *
+   * @param type the type of operation to perform
+   * @return reference to this, for fluency
+   */
+  public TxnNodeOperation setType(TxnNodeVerb type) {
+    this.type = type;
+    return this;
+  }
+
+  /**
+   * Get the node
+   *
+   * @return the node
+   */
+  public Node getNode() {
+    return node;
+  }
+
+  /**
+   * Set the node. The node is identified by its name
+   *
+   * @param node the node
+   * @return reference to this, for fluency
+   */
+  public TxnNodeOperation setNode(Node node) {
+    this.node = node;
+    return this;
+  }
+
+  /**
+   * Get the ModifyIndex used by the {@code cas} and {@code delete-cas} operations
+   *
+   * @return the ModifyIndex used by the {@code cas} and {@code delete-cas} operations
+   */
+  public long getIndex() {
+    return index;
+  }
+
+  /**
+   * Set the ModifyIndex used by the {@code cas} and {@code delete-cas} operations
+   *
+   * @param index the ModifyIndex used by the {@code cas} and {@code delete-cas} operations
+   * @return reference to this, for fluency
+   */
+  public TxnNodeOperation setIndex(long index) {
+    this.index = index;
+    return this;
+  }
+
+  @GenIgnore
+  @Override
+  public TxnOperationType getOperationType() {
+    return TxnOperationType.NODE;
+  }
+}
@@ -3,7 +3,7 @@ package io.vertx.ext.consul;
 import io.vertx.codegen.annotations.VertxGen;
 
 /**
- * Represents the type of operation in a transaction. The available operation types are KV and Service
+ * Represents the type of operation in a transaction. The available operation types are KV, Service, Node, Check and Session
  *
  * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
  * @see <a href="https://www.consul.io/docs/agent/http/kv.html#txn">/v1/txn</a> endpoint
@@ -11,5 +11,8 @@ import io.vertx.codegen.annotations.VertxGen;
 @VertxGen
 public enum TxnOperationType {
   KV,
-  SERVICE
+  SERVICE,
+  NODE,
+  CHECK,
+  SESSION
 }
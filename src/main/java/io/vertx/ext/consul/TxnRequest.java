@@ -20,10 +20,12 @@ import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 
 import static io.vertx.ext.consul.impl.Utils.decode64;
 import static io.vertx.ext.consul.impl.Utils.encode64;
+import static io.vertx.ext.consul.impl.Utils.mapStringString;
 
 /**
  * Holds list of operations in transaction
@@ -33,6 +35,11 @@ import static io.vertx.ext.consul.impl.Utils.encode64;
 @DataObject
 public class TxnRequest {
 
+  /**
+   * The maximum number of operations of a single transaction accepted by Consul = 64
+   */
+  public static final int MAX_OPERATIONS = 64;
+
   private List<TxnOperation> operations = new ArrayList<>();
 
   /**
@@ -67,6 +74,26 @@ public class TxnRequest {
             .setServiceOptions(serviceOptions)
             .setNode(txn.getString("Node"))
             .setType(TxnServiceVerb.ofVerb(txn.getString("Verb"))));
+        } else if (obj.containsKey("Node")) {
+          JsonObject txn = obj.getJsonObject("Node");
+          JsonObject node = txn.getJsonObject("Node");
+          operations.add(new TxnNodeOperation()
+            .setNode(nodeFromJson(node))
+            .setIndex(node.getLong("ModifyIndex", 0L))
+            .setType(TxnNodeVerb.ofVerb(txn.getString("Verb"))));
+        } else if (obj.containsKey("Check")) {
+          JsonObject txn = obj.getJsonObject("Check");
+          JsonObject check = txn.getJsonObject("Check");
+          operations.add(new TxnCheckOperation()
+            .setCheck(checkFromJson(check))
+            .setIndex(check.getLong("ModifyIndex", 0L))
+            .setType(TxnCheckVerb.ofVerb(txn.getString("Verb"))));
+        } else if (obj.containsKey("Session")) {
+          JsonObject txn = obj.getJsonObject("Session");
+          JsonObject session = txn.getJsonObject("Session");
+          operations.add(new TxnSessionOperation()
+            .setSession(new Session().setId(session.getString("ID")).setNode(session.getString("Node")))
+            .setType(TxnSessionVerb.ofVerb(txn.getString("Verb"))));
         }
       });
     }
@@ -100,6 +127,26 @@ public class TxnRequest {
           .put("Service", serviceObj)
           .put("Node", serviceOp.getNode());
         arr.add(new JsonObject().put("Service", obj));
+      } else if (op instanceof TxnNodeOperation) {
+        TxnNodeOperation nodeOp = (TxnNodeOperation) op;
+        JsonObject obj = new JsonObject()
+          .put("Verb", nodeOp.getType().getVerb())
+          .put("Node", nodeToJson(nodeOp.getNode()).put("ModifyIndex", nodeOp.getIndex()));
+        arr.add(new JsonObject().put("Node", obj));
+      } else if (op instanceof TxnCheckOperation) {
+        TxnCheckOperation checkOp = (TxnCheckOperation) op;
+        JsonObject obj = new JsonObject()
+          .put("Verb", checkOp.getType().getVerb())
+          .put("Check", checkToJson(checkOp.getCheck()).put("ModifyIndex", checkOp.getIndex()));
+        arr.add(new JsonObject().put("Check", obj));
+      } else if (op instanceof TxnSessionOperation) {
+        TxnSessionOperation sessionOp = (TxnSessionOperation) op;
+        JsonObject obj = new JsonObject()
+          .put("Verb", sessionOp.getType().getVerb())
+          .put("Session", new JsonObject()
+            .put("ID", sessionOp.getSession().getId())
+            .put("Node", sessionOp.getSession().getNode()));
+        arr.add(new JsonObject().put("Session", obj));
       }
     });
     return new JsonObject().put("operations", arr);
@@ -143,4 +190,59 @@ public class TxnRequest {
     operations.add(operation);
     return this;
   }
+
+  private static JsonObject nodeToJson(Node node) {
+    JsonObject obj = new JsonObject()
+      .put("ID", node.getId())
+      .put("Node", node.getName())
+      .put("Address", node.getAddress())
+      .put("Datacenter", node.getDatacenter());
+    if (node.getLanAddress() != null || node.getWanAddress() != null) {
+      obj.put("TaggedAddresses", new JsonObject().put("lan", node.getLanAddress()).put("wan", node.getWanAddress()));
+    }
+    if (node.getNodeMeta() != null) {
+      obj.put("Meta", new JsonObject(new HashMap<>(node.getNodeMeta())));
+    }
+    return obj;
+  }
+
+  private static Node nodeFromJson(JsonObject obj) {
+    Node node = new Node()
+      .setId(obj.getString("ID"))
+      .setName(obj.getString("Node"))
+      .setAddress(obj.getString("Address"))
+      .setDatacenter(obj.getString("Datacenter"));
+    JsonObject tagged = obj.getJsonObject("TaggedAddresses");
+    if (tagged != null) {
+      node.setLanAddress(tagged.getString("lan")).setWanAddress(tagged.getString("wan"));
+    }
+    if (obj.getJsonObject("Meta") != null) {
+      node.setNodeMeta(mapStringString(obj.getJsonObject("Meta")));
+    }
+    return node;
+  }
+
+  private static JsonObject checkToJson(Check check) {
+    return new JsonObject()
+      .put("Node", check.getNode() != null ? check.getNode() : check.getNodeName())
+      .put("CheckID", check.getId())
+      .put("Name", check.getName())
+      .put("Status", check.getStatus() == null ? null : check.getStatus().key)
+      .put("Notes", check.getNotes())
+      .put("Output", check.getOutput())
+      .put("ServiceID", check.getServiceId())
+      .put("ServiceName", check.getServiceName());
+  }
+
+  private static Check checkFromJson(JsonObject obj) {
+    return new Check()
+      .setNode(obj.getString("Node"))
+      .setId(obj.getString("CheckID"))
+      .setName(obj.getString("Name"))
+      .setStatus(CheckStatus.of(obj.getString("Status")))
+      .setNotes(obj.getString("Notes"))
+      .setOutput(obj.getString("Output"))
+      .setServiceId(obj.getString("ServiceID"))
+      .setServiceName(obj.getString("ServiceName"));
+  }
 }
@@ -55,6 +55,12 @@ public class TxnResponse {
           Service service = new Service(obj.getJsonObject("Service"));
           service.setName(obj.getJsonObject("Service").getString("Service"));
           results.add(service);
+        } else if (obj.containsKey("Node")) {
+          results.add(new Node(obj.getJsonObject("Node")));
+        } else if (obj.containsKey("Check")) {
+          results.add(new Check(obj.getJsonObject("Check")));
+        } else if (obj.containsKey("Session")) {
+          results.add(new Session(obj.getJsonObject("Session")));
         }
       });
     }
@@ -78,6 +84,12 @@ public class TxnResponse {
         jsonObject.put("Service", jsonObject.getString("ServiceName"));
         jsonObject.remove("ServiceName");
         jsonResults.add(new JsonObject().put("Service", jsonObject));
+      } else if (op instanceof Node) {
+        jsonResults.add(new JsonObject().put("Node", ((Node) op).toJson()));
+      } else if (op instanceof Check) {
+        jsonResults.add(new JsonObject().put("Check", ((Check) op).toJson()));
+      } else if (op instanceof Session) {
+        jsonResults.add(new JsonObject().put("Session", ((Session) op).toJson()));
       }
     });
     JsonArray jsonErrors = new JsonArray();
@@ -16,7 +16,7 @@
 package io.vertx.ext.consul;
 
 /**
- * Represents result of operation. The available operation types are KV and Service
+ * Represents result of operation. The available operation types are KV, Service, Node, Check and Session
  *
  * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
  */
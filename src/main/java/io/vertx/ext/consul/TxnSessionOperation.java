@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.GenIgnore;
+import io.vertx.codegen.json.annotations.JsonGen;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Holds the operation to apply to the session inside a transaction
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+@DataObject
+@JsonGen(publicConverter = false)
+public class TxnSessionOperation implements TxnOperation {
+
+  private TxnSessionVerb type;
+  private Session session;
+
+  /**
+   * Default constructor
+   */
+  public TxnSessionOperation() {
+  }
+
+  /**
+   * Copy constructor
+   *
+   * @param other the one to copy
+   */
+  public TxnSessionOperation(TxnSessionOperation other) {
+    this.type = other.type;
+    this.session = other.session;
+  }
+
+  /**
+   * Constructor from JSON
+   *
+   * @param json the JSON
+   */
+  public TxnSessionOperation(JsonObject json) {
+    TxnSessionOperationConverter.fromJson(json, this);
+  }
+
+  /**
+   * Convert to JSON
+   *
+   * @return the JSON
+   */
+  public JsonObject toJson() {
+    JsonObject jsonObject = new JsonObject();
+    TxnSessionOperationConverter.toJson(this, jsonObject);
+    return jsonObject;
+  }
+
+  /**
+   * Get the type of operation to perform
+   *
+   * @return the type of operation to perform
+   */
+  public TxnSessionVerb getType() {
+    return type;
+  }
+
+  /**
+   * Set the type of operation to perform
+   *
+   * @param type the type of operation to perform
+   * @return reference to this, for fluency
+   */
+  public TxnSessionOperation setType(TxnSessionVerb type) {
+    this.type = type;
+    return this;
+  }
+
+  /**
+   * Get the session
+   *
+   * @return the session
+   */
+  public Session getSession() {
+    return session;
+  }
+
+  /**
+   * Set the session. The session is identified by its ID
+   *
+   * @param session the session
+   * @return reference to this, for fluency
+   */
+  public TxnSessionOperation setSession(Session session) {
+    this.session = session;
+    return this;
+  }
+
+  @GenIgnore
+  @Override
+  public TxnOperationType getOperationType() {
+    return TxnOperationType.SESSION;
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul;
+
+/**
+ * Holds the type of Session operation in transaction
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+public enum TxnSessionVerb {
+
+  /**
+   * Delete the session
+   */
+  DELETE("delete");
+
+  public static TxnSessionVerb ofVerb(String verb) {
+    for (TxnSessionVerb type : values()) {
+      if (type.getVerb().equals(verb)) {
+        return type;
+      }
+    }
+    return null;
+  }
+
+  private final String verb;
+
+  TxnSessionVerb(String verb) {
+    this.verb = verb;
+  }
+
+  public String getVerb() {
+    return verb;
+  }
+}
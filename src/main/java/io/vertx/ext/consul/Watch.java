@@ -85,6 +85,36 @@ public interface Watch<T> {
     return new WatchImpl.KeyPrefix(keyPrefix, vertx, options);
   }
 
+  /**
+   * Creates {@code Watch} to monitoring the changes of keys under a prefix in the KV store.
+   * Instead of the whole list of key/value pairs, the handler is provided with the keys added, modified
+   * (by {@code ModifyIndex}) and removed since the previous result. The first result reports all the existing keys as added.
+   * The underlying Consul client will be created with default options.
+   * This maps to the <a href="https://www.consul.io/api/kv.html">/v1/kv/</a> API internally.
+   *
+   * @param keyPrefix the key
+   * @param vertx the {@code Vertx} instance
+   * @return the {@code Watch} instance
+   */
+  static Watch<KeyValueDiff> keyPrefixDiff(String keyPrefix, Vertx vertx) {
+    return keyPrefixDiff(keyPrefix, vertx, new ConsulClientOptions());
+  }
+
+  /**
+   * Creates {@code Watch} to monitoring the changes of keys under a prefix in the KV store.
+   * Instead of the whole list of key/value pairs, the handler is provided with the keys added, modified
+   * (by {@code ModifyIndex}) and removed since the previous result. The first result reports all the existing keys as added.
+   * This maps to the <a href="https://www.consul.io/api/kv.html">/v1/kv/</a> API internally.
+   *
+   * @param keyPrefix the key
+   * @param vertx the {@code Vertx} instance
+   * @param options the options to create underlying Consul client
+   * @return the {@code Watch} instance
+   */
+  static Watch<KeyValueDiff> keyPrefixDiff(String keyPrefix, Vertx vertx, ConsulClientOptions options) {
+    return new WatchImpl.KeyPrefixDiff(keyPrefix, vertx, options);
+  }
+
   /**
    * Creates {@code Watch} to monitoring the list of available services.
    * The underlying Consul client will be created with default options.
@@ -137,6 +167,40 @@ public interface Watch<T> {
     return new WatchImpl.Service(service, vertx, options);
   }
 
+  /**
+   * Creates {@code Watch} to monitoring the changes of the instances providing the service.
+   * Instead of the whole list of instances, the handler is provided with the instances added, removed,
+   * with changed aggregated checks status and with changed properties (address, port, tags, meta) since the previous result.
+   * Changes of the checks which do not affect the aggregated status are not reported.
+   * The first result reports all the existing instances as added.
+   * The underlying Consul client will be created with default options.
+   * This maps to the <a href="https://www.consul.io/docs/agent/http/health.html#health_service">/v1/health/service/&lt;service&gt;</a> API internally.
+   *
+   * @param service the service name
+   * @param vertx the {@code Vertx} instance
+   * @return the {@code Watch} instance
+   */
+  static Watch<ServiceEntryChangeList> serviceChanges(String service, Vertx vertx) {
+    return serviceChanges(service, vertx, new ConsulClientOptions());
+  }
+
+  /**
+   * Creates {@code Watch} to monitoring the changes of the instances providing the service.
+   * Instead of the whole list of instances, the handler is provided with the instances added, removed,
+   * with changed aggregated checks status and with changed properties (address, port, tags, meta) since the previous result.
+   * Changes of the checks which do not affect the aggregated status are not reported.
+   * The first result reports all the existing instances as added.
+   * This maps to the <a href="https://www.consul.io/docs/agent/http/health.html#health_service">/v1/health/service/&lt;service&gt;</a> API internally.
+   *
+   * @param service the service name
+   * @param vertx the {@code Vertx} instance
+   * @param options the options to create underlying Consul client
+   * @return the {@code Watch} instance
+   */
+  static Watch<ServiceEntryChangeList> serviceChanges(String service, Vertx vertx, ConsulClientOptions options) {
+    return new WatchImpl.ServiceChanges(service, vertx, options);
+  }
+
   /**
    * Creates {@code Watch} to monitoring the custom user events.
    * The underlying Consul client will be created with default options.
@@ -163,6 +227,52 @@ public interface Watch<T> {
     return new WatchImpl.Events(event, vertx, options);
   }
 
+  /**
+   * Creates {@code Watch} to monitoring the new custom user events.
+   * Instead of the whole list of events known by the agent, the handler is provided with the events which were not delivered before,
+   * ordered by their Lamport time. The first result contains all the events known by the agent.
+   * The underlying Consul client will be created with default options.
+   * This maps to the <a href="https://www.consul.io/docs/agent/http/event.html#event_list">/v1/event/list</a> API internally.
+   *
+   * @param event the event name
+   * @param vertx the {@code Vertx} instance
+   * @return the {@code Watch} instance
+   */
+  static Watch<EventList> newEvents(String event, Vertx vertx) {
+    return newEvents(event, 0, vertx, new ConsulClientOptions());
+  }
+
+  /**
+   * Creates {@code Watch} to monitoring the new custom user events.
+   * Instead of the whole list of events known by the agent, the handler is provided with the events which were not delivered before,
+   * ordered by their Lamport time. The first result contains all the events known by the agent.
+   * This maps to the <a href="https://www.consul.io/docs/agent/http/event.html#event_list">/v1/event/list</a> API internally.
+   *
+   * @param event the event name
+   * @param vertx the {@code Vertx} instance
+   * @param options the options to create underlying Consul client
+   * @return the {@code Watch} instance
+   */
+  static Watch<EventList> newEvents(String event, Vertx vertx, ConsulClientOptions options) {
+    return newEvents(event, 0, vertx, options);
+  }
+
+  /**
+   * Creates {@code Watch} to monitoring the new custom user events, resuming from the cursor.
+   * The events with Lamport time less or equal to the cursor are never delivered, so the {@link Event#getLTime()}
+   * of the last handled event can be used to restart the watch without replaying already handled events.
+   * This maps to the <a href="https://www.consul.io/docs/agent/http/event.html#event_list">/v1/event/list</a> API internally.
+   *
+   * @param event the event name
+   * @param lTime the Lamport time of the last handled event
+   * @param vertx the {@code Vertx} instance
+   * @param options the options to create underlying Consul client
+   * @return the {@code Watch} instance
+   */
+  static Watch<EventList> newEvents(String event, long lTime, Vertx vertx, ConsulClientOptions options) {
+    return new WatchImpl.NewEvents(event, lTime, vertx, options);
+  }
+
   /**
    * Creates {@code Watch} to monitoring the list of available nodes.
    * The underlying Consul client will be created with default options.
@@ -187,6 +297,30 @@ public interface Watch<T> {
     return new WatchImpl.Nodes(vertx, options);
   }
 
+  /**
+   * Creates {@code Watch} to monitoring the network coordinates of the nodes in the local datacenter.
+   * The underlying Consul client will be created with default options.
+   * This maps to the <a href="https://www.consul.io/api/coordinate.html#read-lan-coordinates-for-all-nodes">/v1/coordinate/nodes</a> API internally.
+   *
+   * @param vertx the {@code Vertx} instance
+   * @return the {@code Watch} instance
+   */
+  static Watch<CoordinateList> coordinates(Vertx vertx) {
+    return coordinates(vertx, new ConsulClientOptions());
+  }
+
+  /**
+   * Creates {@code Watch} to monitoring the network coordinates of the nodes in the local datacenter.
+   * This maps to the <a href="https://www.consul.io/api/coordinate.html#read-lan-coordinates-for-all-nodes">/v1/coordinate/nodes</a> API internally.
+   *
+   * @param vertx the {@code Vertx} instance
+   * @param options the options to create underlying Consul client
+   * @return the {@code Watch} instance
+   */
+  static Watch<CoordinateList> coordinates(Vertx vertx, ConsulClientOptions options) {
+    return new WatchImpl.Coordinates(vertx, options);
+  }
+
   /**
    * Creates {@code Watch} to monitoring the health checks of the nodes.
    * @param node node name or ID
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul;
+
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Vertx;
+import io.vertx.ext.consul.impl.WatchFactoryImpl;
+
+/**
+ * Creates {@link Watch} instances which run over a single Consul client shared by all the watches
+ * created with the same options, instead of creating a client per watch.
+ * The shared client is closed when the last watch using it is stopped.
+ * <p>
+ * Watches of the same target (type, key or service name and query options) are merged into a single
+ * blocking query loop, which is started by the first started watch and stopped with the last one.
+ * The results are delivered to each watch handler on the context the watch was started from.
+ * A watch started while the loop is running immediately receives the current result.
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+@VertxGen
+public interface WatchFactory {
+
+  /**
+   * Create a watch factory.
+   *
+   * @param vertx   the {@code Vertx} instance
+   * @param options the options to create the shared Consul client
+   * @return the factory
+   */
+  static WatchFactory create(Vertx vertx, ConsulClientOptions options) {
+    return new WatchFactoryImpl(vertx, options);
+  }
+
+  /**
+   * Creates {@code Watch} to monitoring a specific key in the KV store.
+   *
+   * @param key the key
+   * @return the {@code Watch} instance
+   * @see Watch#key(String, Vertx, ConsulClientOptions)
+   */
+  Watch<KeyValue> key(String key);
+
+  /**
+   * Creates {@code Watch} to monitoring a prefix of keys in the KV store.
+   *
+   * @param keyPrefix the key
+   * @return the {@code Watch} instance
+   * @see Watch#keyPrefix(String, Vertx, ConsulClientOptions)
+   */
+  Watch<KeyValueList> keyPrefix(String keyPrefix);
+
+  /**
+   * Creates {@code Watch} to monitoring the changes of keys under a prefix in the KV store.
+   * A watch started while the shared loop is running receives all the current keys as added.
+   *
+   * @param keyPrefix the key
+   * @return the {@code Watch} instance
+   * @see Watch#keyPrefixDiff(String, Vertx, ConsulClientOptions)
+   */
+  Watch<KeyValueDiff> keyPrefixDiff(String keyPrefix);
+
+  /**
+   * Creates {@code Watch} to monitoring the list of available services.
+   *
+   * @return the {@code Watch} instance
+   * @see Watch#services(Vertx, ConsulClientOptions)
+   */
+  Watch<ServiceList> services();
+
+  /**
+   * Creates {@code Watch} to monitoring the nodes providing the service.
+   *
+   * @param service the service name
+   * @return the {@code Watch} instance
+   * @see Watch#service(String, Vertx, ConsulClientOptions)
+   */
+  Watch<ServiceEntryList> service(String service);
+
+  /**
+   * Creates {@code Watch} to monitoring the changes of the instances providing the service.
+   * A watch started while the shared loop is running receives all the current instances as added.
+   *
+   * @param service the service name
+   * @return the {@code Watch} instance
+   * @see Watch#serviceChanges(String, Vertx, ConsulClientOptions)
+   */
+  Watch<ServiceEntryChangeList> serviceChanges(String service);
+
+  /**
+   * Creates {@code Watch} to monitoring the custom user events.
+   *
+   * @param event the event name
+   * @return the {@code Watch} instance
+   * @see Watch#events(String, Vertx, ConsulClientOptions)
+   */
+  Watch<EventList> events(String event);
+
+  /**
+   * Creates {@code Watch} to monitoring the new custom user events, resuming from the cursor.
+   * A watch started while the shared loop is running receives only the events which arrive after it was started.
+   *
+   * @param event the event name
+   * @param lTime the Lamport time of the last handled event, or {@code 0} to receive all the events known by the agent
+   * @return the {@code Watch} instance
+   * @see Watch#newEvents(String, long, Vertx, ConsulClientOptions)
+   */
+  Watch<EventList> newEvents(String event, long lTime);
+
+  /**
+   * Creates {@code Watch} to monitoring the list of available nodes.
+   *
+   * @return the {@code Watch} instance
+   * @see Watch#nodes(Vertx, ConsulClientOptions)
+   */
+  Watch<NodeList> nodes();
+
+  /**
+   * Creates {@code Watch} to monitoring the network coordinates of the nodes in the local datacenter.
+   *
+   * @return the {@code Watch} instance
+   * @see Watch#coordinates(Vertx, ConsulClientOptions)
+   */
+  Watch<CoordinateList> coordinates();
+
+  /**
+   * Creates {@code Watch} to monitoring the health checks of the nodes.
+   *
+   * @param node node name or ID
+   * @param opt  options like namespace, datacenter and filter
+   * @return the {@code Watch} instance
+   * @see Watch#nodeHealthChecks(String, CheckQueryOptions, Vertx, ConsulClientOptions)
+   */
+  Watch<CheckList> nodeHealthChecks(String node, CheckQueryOptions opt);
+
+  /**
+   * Creates {@code Watch} to monitoring the health checks of the service.
+   *
+   * @param service           the service name
+   * @param checkQueryOptions options used to request checks
+   * @return the {@code Watch} instance
+   * @see Watch#serviceHealthChecks(String, CheckQueryOptions, Vertx, ConsulClientOptions)
+   */
+  Watch<CheckList> serviceHealthChecks(String service, CheckQueryOptions checkQueryOptions);
+}
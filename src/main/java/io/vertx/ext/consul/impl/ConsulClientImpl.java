@@ -16,24 +16,39 @@
 package io.vertx.ext.consul.impl;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.QueryStringEncoder;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxException;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.PoolOptions;
+import io.vertx.core.http.RequestOptions;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.core.streams.WriteStream;
 import io.vertx.ext.consul.*;
+import io.vertx.ext.consul.metrics.ConsulClientMetrics;
 import io.vertx.ext.consul.policy.AclPolicy;
 import io.vertx.ext.consul.token.CloneAclTokenOptions;
 import io.vertx.ext.web.client.HttpRequest;
 import io.vertx.ext.web.client.HttpResponse;
 import io.vertx.ext.web.client.WebClient;
+import io.vertx.ext.web.codec.BodyCodec;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 
 import static io.vertx.ext.consul.impl.Utils.listOf;
@@ -46,23 +61,63 @@ public class ConsulClientImpl implements ConsulClient {
 
   private static final String TOKEN_HEADER = "X-Consul-Token";
   private static final String INDEX_HEADER = "X-Consul-Index";
+  private static final String LAST_CONTACT_HEADER = "X-Consul-LastContact";
+  private static final String KNOWN_LEADER_HEADER = "X-Consul-KnownLeader";
+  private static final String CACHE_HEADER = "X-Cache";
+  private static final String AGE_HEADER = "Age";
 
   private static final List<Integer> DEFAULT_VALID_CODES = Collections.singletonList(HttpResponseStatus.OK.code());
   private static final List<Integer> TXN_VALID_CODES = Arrays.asList(HttpResponseStatus.OK.code(), HttpResponseStatus.CONFLICT.code());
   private static final List<Integer> KV_VALID_CODES = Arrays.asList(HttpResponseStatus.OK.code(), HttpResponseStatus.NOT_FOUND.code());
 
+  private final Vertx vertx;
+  private final HttpClient httpClient;
   private final WebClient webClient;
+  private final WebClient longPollClient;
+  private final SharedTransport transport;
+  private final AtomicBoolean closed = new AtomicBoolean();
   private final String aclToken;
   private final String dc;
   private final long timeoutMs;
+  private final ConsistencyMode consistencyMode;
+  private final ConsulClientMetrics metrics;
 
   public ConsulClientImpl(Vertx vertx, ConsulClientOptions options) {
     Objects.requireNonNull(vertx);
     Objects.requireNonNull(options);
-    webClient = WebClient.create(vertx, options);
+    this.vertx = vertx;
+    httpClient = createHttpClient(vertx, options, options.getMaxPoolSize());
+    webClient = WebClient.wrap(httpClient, options);
+    longPollClient = WebClient.wrap(createHttpClient(vertx, options, options.getLongPollMaxPoolSize()), options);
+    transport = null;
     aclToken = options.getAclToken();
     dc = options.getDc();
     timeoutMs = options.getTimeout();
+    consistencyMode = options.getConsistencyMode();
+    metrics = options.getMetrics();
+  }
+
+  ConsulClientImpl(SharedTransport transport, ConsulClientOptions options) {
+    this.vertx = transport.vertx();
+    this.httpClient = transport.httpClient();
+    this.webClient = transport.webClient();
+    this.longPollClient = transport.longPollClient();
+    this.transport = transport;
+    aclToken = options.getAclToken();
+    dc = options.getDc();
+    timeoutMs = options.getTimeout();
+    consistencyMode = options.getConsistencyMode();
+    metrics = options.getMetrics();
+  }
+
+  static HttpClient createHttpClient(Vertx vertx, ConsulClientOptions options, int maxPoolSize) {
+    return vertx.createHttpClient(options, new PoolOptions().setHttp1MaxSize(maxPoolSize));
+  }
+
+  public static ConsulClient createShared(Vertx vertx, ConsulClientOptions options) {
+    Objects.requireNonNull(vertx);
+    Objects.requireNonNull(options);
+    return SharedTransport.acquire(vertx, options);
   }
 
   @Override
@@ -77,9 +132,8 @@ public class ConsulClientImpl implements ConsulClient {
 
   @Override
   public Future<CoordinateList> coordinateNodesWithOptions(BlockingQueryOptions options) {
-    return requestArray(HttpMethod.GET, "/v1/coordinate/nodes", new Query().put(options), null, (arr, headers) -> {
-      List<Coordinate> list = arr.stream().map(obj -> CoordinateParser.parse((JsonObject) obj)).collect(Collectors.toList());
-      return new CoordinateList().setList(list).setIndex(Long.parseLong(headers.get(INDEX_HEADER)));
+    return requestArrayStream(HttpMethod.GET, "/v1/coordinate/nodes", new Query().put(options), null, CoordinateParser::parse, (list, headers) -> {
+      return new CoordinateList().setList(list).setIndex(Long.parseLong(headers.get(INDEX_HEADER))).setMeta(queryMeta(headers));
     });
   }
 
@@ -122,11 +176,62 @@ public class ConsulClientImpl implements ConsulClient {
     });
   }
 
+  @Override
+  public Future<KeyValue> getValueAsBuffer(String key) {
+    return getValueAsBufferWithOptions(key, null);
+  }
+
+  @Override
+  public Future<KeyValue> getValueAsBufferWithOptions(String key, BlockingQueryOptions options) {
+    Query query = Query.of("raw", true).put(options);
+    return request(KV_VALID_CODES, HttpMethod.GET, "/v1/kv/" + urlEncode(key), query, null, resp -> {
+      if (resp.statusCode() == HttpResponseStatus.NOT_FOUND.code()) {
+        return new KeyValue();
+      } else {
+        Buffer body = resp.body();
+        return new KeyValue()
+          .setKey(key)
+          .setRawValue(body == null ? Buffer.buffer() : body)
+          .setModifyIndex(Long.parseLong(resp.headers().get(INDEX_HEADER)));
+      }
+    });
+  }
+
+  @Override
+  public Future<KeyValue> getValueToStream(String key, WriteStream<Buffer> stream) {
+    String path = "/v1/kv/" + urlEncode(key);
+    RequestOptions options = prepareStream(HttpMethod.GET, path, Query.of("raw", true));
+    return send(HttpMethod.GET, path, false, () -> httpClient.request(options).compose(HttpClientRequest::send),
+      HttpClientResponse::statusCode, resp -> {
+        String length = resp.getHeader(HttpHeaders.CONTENT_LENGTH);
+        return length == null ? 0 : Long.parseLong(length);
+      })
+      .compose(resp -> {
+        if (resp.statusCode() == HttpResponseStatus.OK.code()) {
+          long modifyIndex = Long.parseLong(resp.getHeader(INDEX_HEADER));
+          return resp.pipeTo(stream).map(v -> new KeyValue().setKey(key).setModifyIndex(modifyIndex));
+        } else if (resp.statusCode() == HttpResponseStatus.NOT_FOUND.code()) {
+          return resp.end().map(v -> new KeyValue());
+        } else {
+          return resp.body().compose(body -> Future.failedFuture(new VertxException(String.format(
+            "Status message: '%s'. Body: '%s' ",
+            resp.statusMessage(),
+            body
+          ), true)));
+        }
+      });
+  }
+
   @Override
   public Future<Void> deleteValue(String key) {
     return requestVoid(HttpMethod.DELETE, "/v1/kv/" + urlEncode(key), null, null);
   }
 
+  @Override
+  public Future<List<KeyValue>> getValuesByKeys(List<String> keys) {
+    return TxnKeyReader.read(this, keys);
+  }
+
   @Override
   public Future<KeyValueList> getValues(String keyPrefix) {
     return getValuesWithOptions(keyPrefix, null);
@@ -135,12 +240,13 @@ public class ConsulClientImpl implements ConsulClient {
   @Override
   public Future<KeyValueList> getValuesWithOptions(String keyPrefix, BlockingQueryOptions options) {
     Query query = Query.of("recurse", true).put(options);
-    return request(KV_VALID_CODES, HttpMethod.GET, "/v1/kv/" + urlEncode(keyPrefix), query, null, resp -> {
+    return requestStream(KV_VALID_CODES, HttpMethod.GET, "/v1/kv/" + urlEncode(keyPrefix), query, null, KVParser::parse, (list, resp) -> {
       if (resp.statusCode() == HttpResponseStatus.NOT_FOUND.code()) {
-        return new KeyValueList();
+        // an empty prefix still has an index, which blocking queries on it rely on
+        String index = resp.headers().get(INDEX_HEADER);
+        return new KeyValueList().setIndex(index == null ? 0 : Long.parseLong(index)).setMeta(queryMeta(resp.headers()));
       } else {
-        List<KeyValue> list = resp.bodyAsJsonArray().stream().map(obj -> KVParser.parse((JsonObject) obj)).collect(Collectors.toList());
-        return new KeyValueList().setList(list).setIndex(Long.parseLong(resp.headers().get(INDEX_HEADER)));
+        return new KeyValueList().setList(list).setIndex(Long.parseLong(resp.headers().get(INDEX_HEADER))).setMeta(queryMeta(resp.headers()));
       }
     });
   }
@@ -157,6 +263,67 @@ public class ConsulClientImpl implements ConsulClient {
 
   @Override
   public Future<Boolean> putValueWithOptions(String key, String value, KeyValueOptions options) {
+    return requestString(HttpMethod.PUT, "/v1/kv/" + urlEncode(key), kvQuery(options), value, (bool, headers) -> Boolean.valueOf(bool));
+  }
+
+  @Override
+  public Future<Boolean> putValueAsBuffer(String key, Buffer value) {
+    return putValueAsBufferWithOptions(key, value, null);
+  }
+
+  @Override
+  public Future<Boolean> putValueAsBufferWithOptions(String key, Buffer value, KeyValueOptions options) {
+    return requestBuffer(DEFAULT_VALID_CODES, HttpMethod.PUT, "/v1/kv/" + urlEncode(key), kvQuery(options), value,
+      resp -> Boolean.valueOf(resp.bodyAsString().trim()));
+  }
+
+  @Override
+  public Future<Boolean> putValueFromStream(String key, ReadStream<Buffer> value) {
+    return putValueFromStreamWithOptions(key, value, null);
+  }
+
+  @Override
+  public Future<Boolean> putValueFromStreamWithOptions(String key, ReadStream<Buffer> value, KeyValueOptions options) {
+    String path = "/v1/kv/" + urlEncode(key);
+    Query query = kvQuery(options);
+    HttpRequest<Buffer> rq = prepare(HttpMethod.PUT, path, query);
+    return send(HttpMethod.PUT, path, false, () -> rq.sendStream(value), HttpResponse::statusCode,
+      resp -> resp.body() == null ? 0 : resp.body().length())
+      .map(resp -> {
+        if (resp.statusCode() == HttpResponseStatus.OK.code()) {
+          return Boolean.valueOf(resp.bodyAsString().trim());
+        } else {
+          throw new VertxException(String.format(
+            "Status message: '%s'. Body: '%s' ",
+            resp.statusMessage(),
+            resp.bodyAsString()
+          ), true);
+        }
+      });
+  }
+
+  @Override
+  public Future<KeyValue> updateValue(String key, Function<KeyValue, String> mapper) {
+    return updateValueWithOptions(key, mapper, null);
+  }
+
+  @Override
+  public Future<KeyValue> updateValueWithOptions(String key, Function<KeyValue, String> mapper, KeyValueUpdateOptions options) {
+    return KeyValueUpdater.update(vertx, this, metrics, key, mapper, options);
+  }
+
+  @Override
+  public Future<List<KeyValue>> updateValues(List<String> keys, Function<List<KeyValue>, Map<String, String>> mapper) {
+    return updateValuesWithOptions(keys, mapper, null);
+  }
+
+  @Override
+  public Future<List<KeyValue>> updateValuesWithOptions(List<String> keys, Function<List<KeyValue>, Map<String, String>> mapper,
+                                                        KeyValueUpdateOptions options) {
+    return MultiKeyUpdater.update(vertx, this, metrics, keys, mapper, options);
+  }
+
+  private static Query kvQuery(KeyValueOptions options) {
     Query query = new Query();
     if (options != null) {
       query.put("flags", Long.toUnsignedString(options.getFlags()))
@@ -167,7 +334,7 @@ public class ConsulClientImpl implements ConsulClient {
         query.put("cas", cas);
       }
     }
-    return requestString(HttpMethod.PUT, "/v1/kv/" + urlEncode(key), query, value, (bool, headers) -> Boolean.valueOf(bool));
+    return query;
   }
 
   @Override
@@ -391,9 +558,8 @@ public class ConsulClientImpl implements ConsulClient {
       .of("tag", options.getTag())
       .put("near", options.getNear())
       .put(options.getBlockingOptions());
-    return requestArray(HttpMethod.GET, "/v1/catalog/service/" + urlEncode(service), query, null, (arr, headers) -> {
-      List<Service> list = arr.stream().map(obj -> new Service((JsonObject) obj)).collect(Collectors.toList());
-      return new ServiceList().setList(list).setIndex(Long.parseLong(headers.get(INDEX_HEADER)));
+    return requestArrayStream(HttpMethod.GET, "/v1/catalog/service/" + urlEncode(service), query, null, Service::new, (list, headers) -> {
+      return new ServiceList().setList(list).setIndex(Long.parseLong(headers.get(INDEX_HEADER))).setMeta(queryMeta(headers));
     });
   }
 
@@ -410,9 +576,8 @@ public class ConsulClientImpl implements ConsulClient {
   @Override
   public Future<NodeList> catalogNodesWithOptions(NodeQueryOptions options) {
     Query query = options == null ? null : Query.of("near", options.getNear()).put(options.getBlockingOptions());
-    return requestArray(HttpMethod.GET, "/v1/catalog/nodes", query, null, (arr, headers) -> {
-      List<Node> list = arr.stream().map(obj -> NodeParser.parse((JsonObject) obj)).collect(Collectors.toList());
-      return new NodeList().setList(list).setIndex(Long.parseLong(headers.get(INDEX_HEADER)));
+    return requestArrayStream(HttpMethod.GET, "/v1/catalog/nodes", query, null, NodeParser::parse, (list, headers) -> {
+      return new NodeList().setList(list).setIndex(Long.parseLong(headers.get(INDEX_HEADER))).setMeta(queryMeta(headers));
     });
   }
 
@@ -442,10 +607,9 @@ public class ConsulClientImpl implements ConsulClient {
 
   @Override
   public Future<CheckList> healthChecksWithOptions(String service, CheckQueryOptions options) {
-    return requestArray(HttpMethod.GET, "/v1/health/checks/" + urlEncode(service), fromCheckQueryOptions(options), null,
-      (arr, headers) -> {
-        List<Check> list = arr.stream().map(obj -> CheckParser.parse((JsonObject) obj)).collect(Collectors.toList());
-        return new CheckList().setList(list).setIndex(Long.parseLong(headers.get(INDEX_HEADER)));
+    return requestArrayStream(HttpMethod.GET, "/v1/health/checks/" + urlEncode(service), fromCheckQueryOptions(options), null,
+      CheckParser::parse, (list, headers) -> {
+        return new CheckList().setList(list).setIndex(Long.parseLong(headers.get(INDEX_HEADER))).setMeta(queryMeta(headers));
       });
   }
 
@@ -456,10 +620,9 @@ public class ConsulClientImpl implements ConsulClient {
 
   @Override
   public Future<CheckList> healthStateWithOptions(HealthState healthState, CheckQueryOptions options) {
-    return requestArray(HttpMethod.GET, "/v1/health/state/" + healthState.key, fromCheckQueryOptions(options), null,
-      (arr, headers) -> {
-        List<Check> list = arr.stream().map(obj -> CheckParser.parse((JsonObject) obj)).collect(Collectors.toList());
-        return new CheckList().setList(list).setIndex(Long.parseLong(headers.get(INDEX_HEADER)));
+    return requestArrayStream(HttpMethod.GET, "/v1/health/state/" + healthState.key, fromCheckQueryOptions(options), null,
+      CheckParser::parse, (list, headers) -> {
+        return new CheckList().setList(list).setIndex(Long.parseLong(headers.get(INDEX_HEADER))).setMeta(queryMeta(headers));
       });
   }
 
@@ -478,22 +641,17 @@ public class ConsulClientImpl implements ConsulClient {
     if (options != null) {
       query.put(options.getBlockingOptions()).put("near", options.getNear()).put("tag", options.getTag());
     }
-    return requestArray(HttpMethod.GET, "/v1/health/service/" + urlEncode(service), query, null, (arr, headers) -> {
-      List<ServiceEntry> list = arr
-        .stream()
-        .map(obj -> ServiceEntryParser.parse((JsonObject) obj))
-        .collect(Collectors.toList());
-      return new ServiceEntryList().setList(list).setIndex(Long.parseLong(headers.get(INDEX_HEADER)));
+    return requestArrayStream(HttpMethod.GET, "/v1/health/service/" + urlEncode(service), query, null, ServiceEntryParser::parse, (list, headers) -> {
+      return new ServiceEntryList().setList(list).setIndex(Long.parseLong(headers.get(INDEX_HEADER))).setMeta(queryMeta(headers));
     });
   }
 
   @Override
   public Future<CheckList> healthNodesWithOptions(String node, CheckQueryOptions options) {
-    return requestArray(HttpMethod.GET, "/v1/health/node/" + urlEncode(node), fromCheckQueryOptions(options),
+    return requestArrayStream(HttpMethod.GET, "/v1/health/node/" + urlEncode(node), fromCheckQueryOptions(options),
       options.toJson().encode(),
-      (arr, headers) -> {
-        List<Check> list = arr.stream().map(obj -> CheckParser.parse((JsonObject) obj)).collect(Collectors.toList());
-        return new CheckList().setList(list).setIndex(Long.parseLong(headers.get(INDEX_HEADER)));
+      CheckParser::parse, (list, headers) -> {
+        return new CheckList().setList(list).setIndex(Long.parseLong(headers.get(INDEX_HEADER))).setMeta(queryMeta(headers));
       }
     );
   }
@@ -507,7 +665,7 @@ public class ConsulClientImpl implements ConsulClient {
   public Future<ServiceList> catalogServicesWithOptions(BlockingQueryOptions options) {
     return requestObject(HttpMethod.GET, "/v1/catalog/services", Query.of(options), null, (json, headers) -> {
       List<Service> list = json.stream().map(ServiceParser::parseCatalogInfo).collect(Collectors.toList());
-      return new ServiceList().setList(list).setIndex(Long.parseLong(headers.get(INDEX_HEADER)));
+      return new ServiceList().setList(list).setIndex(Long.parseLong(headers.get(INDEX_HEADER))).setMeta(queryMeta(headers));
     });
   }
 
@@ -544,7 +702,7 @@ public class ConsulClientImpl implements ConsulClient {
         List<Service> list = json.getJsonObject("Services").stream()
           .map(obj -> ServiceParser.parseNodeInfo(nodeName, nodeAddress, (JsonObject) obj.getValue()))
           .collect(Collectors.toList());
-        return new ServiceList().setList(list).setIndex(Long.parseLong(headers.get(INDEX_HEADER)));
+        return new ServiceList().setList(list).setIndex(Long.parseLong(headers.get(INDEX_HEADER))).setMeta(queryMeta(headers));
       }
     );
   }
@@ -698,7 +856,7 @@ public class ConsulClientImpl implements ConsulClient {
   public Future<SessionList> listSessionsWithOptions(BlockingQueryOptions options) {
     return requestArray(HttpMethod.GET, "/v1/session/list", Query.of(options), null, (arr, headers) -> {
       List<Session> list = arr.stream().map(obj -> SessionParser.parse((JsonObject) obj)).collect(Collectors.toList());
-      return new SessionList().setList(list).setIndex(Long.parseLong(headers.get(INDEX_HEADER)));
+      return new SessionList().setList(list).setIndex(Long.parseLong(headers.get(INDEX_HEADER))).setMeta(queryMeta(headers));
     });
   }
 
@@ -719,7 +877,7 @@ public class ConsulClientImpl implements ConsulClient {
           .stream()
           .map(obj -> SessionParser.parse((JsonObject) obj))
           .collect(Collectors.toList());
-        return new SessionList().setList(list).setIndex(Long.parseLong(headers.get(INDEX_HEADER)));
+        return new SessionList().setList(list).setIndex(Long.parseLong(headers.get(INDEX_HEADER))).setMeta(queryMeta(headers));
       }
     );
   }
@@ -860,7 +1018,12 @@ public class ConsulClientImpl implements ConsulClient {
 
   @Override
   public void close() {
-    webClient.close();
+    if (transport == null) {
+      webClient.close();
+      longPollClient.close();
+    } else if (closed.compareAndSet(false, true)) {
+      transport.release();
+    }
   }
 
   private <T> Future<T> requestArray(
@@ -877,6 +1040,13 @@ public class ConsulClientImpl implements ConsulClient {
     );
   }
 
+  private <E, T> Future<T> requestArrayStream(
+    HttpMethod method, String path, Query query, String body,
+    Function<JsonObject, E> parser, BiFunction<List<E>, MultiMap, T> mapper
+  ) {
+    return requestStream(DEFAULT_VALID_CODES, method, path, query, body, parser, (list, resp) -> mapper.apply(list, resp.headers()));
+  }
+
   private <T> Future<T> requestObject(
     HttpMethod method, String path, Query query, String body,
     BiFunction<JsonObject, MultiMap, T> mapper
@@ -909,25 +1079,96 @@ public class ConsulClientImpl implements ConsulClient {
     return request(DEFAULT_VALID_CODES, method, path, query, body, resp -> null);
   }
 
-  private <T> Future<T> request(
-    List<Integer> validCodes, HttpMethod method, String path, Query query, String body,
-    Function<HttpResponse<Buffer>, T> mapper
+  private static QueryMeta queryMeta(MultiMap headers) {
+    String lastContact = headers.get(LAST_CONTACT_HEADER);
+    String age = headers.get(AGE_HEADER);
+    return new QueryMeta()
+      .setLastContact(lastContact == null ? 0 : Long.parseLong(lastContact))
+      .setKnownLeader(Boolean.parseBoolean(headers.get(KNOWN_LEADER_HEADER)))
+      .setCacheHit("HIT".equalsIgnoreCase(headers.get(CACHE_HEADER)))
+      .setCacheAge(age == null ? 0 : Long.parseLong(age));
+  }
+
+  private <R> Future<R> send(
+    HttpMethod method, String path, boolean blocking, Supplier<Future<R>> sender,
+    ToIntFunction<R> status, ToLongFunction<R> size
   ) {
-    if (query == null) {
-      query = new Query();
+    if (metrics == null) {
+      return sender.get();
     }
+    String endpoint = EndpointTemplates.match(path);
+    metrics.requestBegin(endpoint, method, blocking);
+    long start = System.nanoTime();
+    return sender.get().andThen(ar -> {
+      long latency = System.nanoTime() - start;
+      if (ar.succeeded()) {
+        metrics.requestEnd(endpoint, method, blocking, status.applyAsInt(ar.result()), latency, size.applyAsLong(ar.result()));
+      } else {
+        metrics.requestEnd(endpoint, method, blocking, 0, latency, 0);
+      }
+    });
+  }
+
+  private void applyDefaults(HttpMethod method, Query query) {
     if (dc != null) {
       query.put("dc", dc);
     }
-    HttpRequest<Buffer> rq = webClient.request(method, path);
+    if (method == HttpMethod.GET && !query.hasConsistencyMode() && !query.isCached()) {
+      query.put(consistencyMode);
+    }
+  }
+
+  private HttpRequest<Buffer> prepare(HttpMethod method, String path, Query query) {
+    applyDefaults(method, query);
+    WebClient client = query.isBlocking() ? longPollClient : webClient;
+    HttpRequest<Buffer> rq = client.request(method, path);
     query.entrySet().forEach(e -> rq.addQueryParam(e.getKey(), e.getValue()));
+    query.headers().forEach(e -> rq.putHeader(e.getKey(), e.getValue()));
     if (aclToken != null) {
       rq.putHeader(TOKEN_HEADER, aclToken);
     }
     if (timeoutMs > 0) {
       rq.timeout(timeoutMs);
     }
-    return rq.sendBuffer(body == null ? Buffer.buffer() : Buffer.buffer(body))
+    return rq;
+  }
+
+  /**
+   * Same as {@link #prepare}, but for the requests sent by the underlying HTTP client, which exposes
+   * the response before its body is received
+   */
+  private RequestOptions prepareStream(HttpMethod method, String path, Query query) {
+    applyDefaults(method, query);
+    QueryStringEncoder uri = new QueryStringEncoder(path);
+    query.entrySet().forEach(e -> uri.addParam(e.getKey(), e.getValue()));
+    RequestOptions options = new RequestOptions().setMethod(method).setURI(uri.toString());
+    query.headers().forEach(e -> options.putHeader(e.getKey(), e.getValue()));
+    if (aclToken != null) {
+      options.putHeader(TOKEN_HEADER, aclToken);
+    }
+    if (timeoutMs > 0) {
+      options.setIdleTimeout(timeoutMs);
+    }
+    return options;
+  }
+
+  private <T> Future<T> request(
+    List<Integer> validCodes, HttpMethod method, String path, Query query, String body,
+    Function<HttpResponse<Buffer>, T> mapper
+  ) {
+    return requestBuffer(validCodes, method, path, query, body == null ? Buffer.buffer() : Buffer.buffer(body), mapper);
+  }
+
+  private <T> Future<T> requestBuffer(
+    List<Integer> validCodes, HttpMethod method, String path, Query query, Buffer body,
+    Function<HttpResponse<Buffer>, T> mapper
+  ) {
+    if (query == null) {
+      query = new Query();
+    }
+    HttpRequest<Buffer> rq = prepare(method, path, query);
+    return send(method, path, query.isBlocking(), () -> rq.sendBuffer(body), HttpResponse::statusCode,
+      resp -> resp.body() == null ? 0 : resp.body().length())
       .map(resp -> {
         if (validCodes.contains(resp.statusCode())) {
           return mapper.apply(resp);
@@ -940,4 +1181,32 @@ public class ConsulClientImpl implements ConsulClient {
         }
       });
   }
+
+  /**
+   * Same as {@link #request}, but the response must be a JSON array which is decoded incrementally
+   * as the body arrives, element by element, see {@link JsonArrayStream}
+   */
+  private <E, T> Future<T> requestStream(
+    List<Integer> validCodes, HttpMethod method, String path, Query query, String body,
+    Function<JsonObject, E> parser, BiFunction<List<E>, HttpResponse<Void>, T> mapper
+  ) {
+    if (query == null) {
+      query = new Query();
+    }
+    JsonArrayStream<E> stream = new JsonArrayStream<>(parser);
+    HttpRequest<Void> rq = prepare(method, path, query).as(BodyCodec.pipe(stream));
+    Buffer payload = body == null ? Buffer.buffer() : Buffer.buffer(body);
+    return send(method, path, query.isBlocking(), () -> rq.sendBuffer(payload), HttpResponse::statusCode, resp -> stream.bytes())
+      .map(resp -> {
+        if (validCodes.contains(resp.statusCode())) {
+          return mapper.apply(stream.result(), resp);
+        } else {
+          throw new VertxException(String.format(
+            "Status message: '%s'. Body: '%s' ",
+            resp.statusMessage(),
+            stream.head()
+          ), true);
+        }
+      });
+  }
 }
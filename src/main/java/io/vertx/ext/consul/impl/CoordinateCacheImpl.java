@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.ext.consul.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+public class CoordinateCacheImpl implements CoordinateCache {
+
+  private final Watch<CoordinateList> watch;
+  private final Promise<Void> ready = Promise.promise();
+  private final AtomicBoolean started = new AtomicBoolean();
+  private volatile boolean closed;
+  private volatile PackedCoordinates coordinates = PackedCoordinates.of(Collections.emptyList());
+
+  public CoordinateCacheImpl(Vertx vertx, ConsulClientOptions options) {
+    this.watch = WatchFactory.create(vertx, options).coordinates().setHandler(this::update);
+  }
+
+  @Override
+  public Future<Void> start() {
+    if (closed) {
+      return Future.failedFuture(new IllegalStateException("Coordinate cache closed"));
+    }
+    if (started.compareAndSet(false, true)) {
+      watch.start();
+    }
+    return ready.future();
+  }
+
+  @Override
+  public Coordinate get(String node) {
+    PackedCoordinates current = coordinates;
+    int i = current.indexOf(node);
+    return i < 0 ? null : current.coordinate(i);
+  }
+
+  @Override
+  public double rtt(String from, String to) {
+    PackedCoordinates current = coordinates;
+    int a = current.indexOf(from);
+    int b = current.indexOf(to);
+    return a < 0 || b < 0 ? -1 : current.rtt(a, b);
+  }
+
+  @Override
+  public List<Node> sortNodes(String from, List<Node> nodes) {
+    return sort(from, nodes, Node::getName);
+  }
+
+  @Override
+  public List<ServiceEntry> sortServiceEntries(String from, List<ServiceEntry> entries) {
+    return sort(from, entries, entry -> entry.getNode().getName());
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    if (started.compareAndSet(true, false)) {
+      watch.stop();
+    }
+    ready.tryFail(new IllegalStateException("Coordinate cache closed"));
+  }
+
+  private <T> List<T> sort(String from, List<T> list, Function<T, String> node) {
+    PackedCoordinates current = coordinates;
+    int origin = current.indexOf(from);
+    List<T> sorted = new ArrayList<>(list);
+    if (origin < 0) {
+      return sorted;
+    }
+    // compute the distance once per element, not once per comparison
+    double[] distances = new double[sorted.size()];
+    Integer[] order = new Integer[sorted.size()];
+    for (int i = 0; i < distances.length; i++) {
+      int j = current.indexOf(node.apply(sorted.get(i)));
+      distances[i] = j < 0 ? Double.POSITIVE_INFINITY : current.rtt(origin, j);
+      order[i] = i;
+    }
+    Arrays.sort(order, Comparator.comparingDouble(i -> distances[i]));
+    List<T> result = new ArrayList<>(order.length);
+    for (Integer i : order) {
+      result.add(sorted.get(i));
+    }
+    return result;
+  }
+
+  private void update(WatchResult<CoordinateList> result) {
+    if (result.failed()) {
+      ready.tryFail(result.cause());
+      return;
+    }
+    coordinates = result.nextResult().pack();
+    ready.tryComplete();
+  }
+}
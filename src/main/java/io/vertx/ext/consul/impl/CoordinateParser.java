@@ -47,9 +47,14 @@ class CoordinateParser {
         .setErr(coord.getFloat(ERR_KEY, 0f))
         .setHeight(coord.getFloat(HEIGHT_KEY, 0f));
       JsonArray arr = coord.getJsonArray(VEC_KEY);
-      coordinate.setVec(arr == null ? null : arr.stream()
-        .map(o -> o instanceof Number ? ((Number) o).floatValue() : 0f)
-        .collect(Collectors.toList()));
+      if (arr != null) {
+        float[] vec = new float[arr.size()];
+        for (int i = 0; i < vec.length; i++) {
+          Object o = arr.getValue(i);
+          vec[i] = o instanceof Number ? ((Number) o).floatValue() : 0f;
+        }
+        coordinate.setVecArray(vec);
+      }
     }
     return coordinate;
   }
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps the request paths to the templates of Consul API endpoints, e.g. {@code /v1/kv/foo%2Fbar} to {@code /v1/kv/{key}}.
+ * The paths are matched segment by segment against a tree of the templates, the literal segments take precedence
+ * over the parameters. The paths which do not match any template are mapped to {@link #UNKNOWN}, so the raw paths
+ * never leak into the metrics.
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+public final class EndpointTemplates {
+
+  public static final String UNKNOWN = "/{unknown}";
+
+  private static final String[] TEMPLATES = {
+    "/v1/acl/clone/{id}",
+    "/v1/acl/create",
+    "/v1/acl/destroy/{id}",
+    "/v1/acl/info/{id}",
+    "/v1/acl/list",
+    "/v1/acl/policies",
+    "/v1/acl/policy",
+    "/v1/acl/policy/{id}",
+    "/v1/acl/policy/name/{name}",
+    "/v1/acl/token",
+    "/v1/acl/token/{accessorId}",
+    "/v1/acl/token/{accessorId}/clone",
+    "/v1/acl/tokens",
+    "/v1/acl/update",
+    "/v1/agent/check/deregister/{checkId}",
+    "/v1/agent/check/fail/{checkId}",
+    "/v1/agent/check/pass/{checkId}",
+    "/v1/agent/check/register",
+    "/v1/agent/check/update/{checkId}",
+    "/v1/agent/check/warn/{checkId}",
+    "/v1/agent/checks",
+    "/v1/agent/self",
+    "/v1/agent/service/deregister/{serviceId}",
+    "/v1/agent/service/maintenance/{serviceId}",
+    "/v1/agent/service/register",
+    "/v1/agent/services",
+    "/v1/catalog/datacenters",
+    "/v1/catalog/deregister",
+    "/v1/catalog/node/{node}",
+    "/v1/catalog/nodes",
+    "/v1/catalog/register",
+    "/v1/catalog/service/{service}",
+    "/v1/catalog/services",
+    "/v1/coordinate/datacenters",
+    "/v1/coordinate/nodes",
+    "/v1/event/fire/{name}",
+    "/v1/event/list",
+    "/v1/health/checks/{service}",
+    "/v1/health/node/{node}",
+    "/v1/health/service/{service}",
+    "/v1/health/state/{state}",
+    "/v1/kv/{key}",
+    "/v1/query",
+    "/v1/query/{id}",
+    "/v1/query/{id}/execute",
+    "/v1/session/create",
+    "/v1/session/destroy/{id}",
+    "/v1/session/info/{id}",
+    "/v1/session/list",
+    "/v1/session/node/{node}",
+    "/v1/session/renew/{id}",
+    "/v1/status/leader",
+    "/v1/status/peers",
+    "/v1/txn",
+  };
+
+  private static final Node ROOT = new Node();
+
+  static {
+    for (String template : TEMPLATES) {
+      Node node = ROOT;
+      for (String segment : template.substring(1).split("/")) {
+        node = segment.startsWith("{") ? node.param() : node.literal(segment);
+      }
+      node.template = template;
+    }
+  }
+
+  private EndpointTemplates() {}
+
+  /**
+   * @param path the request path, without the query
+   * @return the template of the endpoint, or {@link #UNKNOWN}
+   */
+  public static String match(String path) {
+    String template = path.startsWith("/") ? match(ROOT, path, 1) : null;
+    return template == null ? UNKNOWN : template;
+  }
+
+  private static String match(Node node, String path, int from) {
+    if (from > path.length()) {
+      return node.template;
+    }
+    int end = path.indexOf('/', from);
+    if (end < 0) {
+      end = path.length();
+    }
+    int length = end - from;
+    for (int i = 0; i < node.names.size(); i++) {
+      String name = node.names.get(i);
+      if (name.length() == length && path.regionMatches(from, name, 0, length)) {
+        String template = match(node.literals.get(i), path, end + 1);
+        if (template != null) {
+          return template;
+        }
+        break;
+      }
+    }
+    return node.param == null ? null : match(node.param, path, end + 1);
+  }
+
+  private static class Node {
+
+    private final List<String> names = new ArrayList<>();
+    private final List<Node> literals = new ArrayList<>();
+    private Node param;
+    private String template;
+
+    Node literal(String name) {
+      int idx = names.indexOf(name);
+      if (idx >= 0) {
+        return literals.get(idx);
+      }
+      Node child = new Node();
+      names.add(name);
+      literals.add(child);
+      return child;
+    }
+
+    Node param() {
+      if (param == null) {
+        param = new Node();
+      }
+      return param;
+    }
+  }
+}
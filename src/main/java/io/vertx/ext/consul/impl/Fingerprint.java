@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul.impl;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Cheap 64-bit content fingerprints used to detect changes of watched data. Different fingerprints tell that
+ * the content is changed, the same fingerprints don't tell it is the same: the content is compared then.
+ * The fingerprint of a list does not depend on the order of its entries, so lists can be compared
+ * in a single pass, without copying and sorting them. This relies on the hash codes of the entries being cheap,
+ * in particular the data objects with unordered collections (tags, checks) hash them without sorting.
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+class Fingerprint {
+
+  private static final long NULL = 0x9E3779B97F4A7C15L;
+
+  static long of(Object value) {
+    return value == null ? NULL : mix(value.hashCode());
+  }
+
+  static long of(List<?> list) {
+    if (list == null) {
+      return NULL;
+    }
+    long sum = list.size();
+    for (Object entry : list) {
+      sum += entry(entry);
+    }
+    return mix(sum);
+  }
+
+  /**
+   * @return the contribution of single entry to the list fingerprint; lists fingerprints can be updated
+   * incrementally by adding or subtracting these values
+   */
+  static long entry(Object entry) {
+    return mix(Objects.hashCode(entry));
+  }
+
+  /**
+   * The finalizer of SplitMix64 generator, spreads the bits of the entry hash over the whole 64-bit value
+   */
+  static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.parsetools.JsonEventType;
+import io.vertx.core.parsetools.JsonParser;
+import io.vertx.core.streams.WriteStream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Decodes a JSON array response incrementally, as the body chunks arrive. Only one element of the array
+ * is held as a {@link JsonObject} at a time, it is converted by the element parser and dropped, so the
+ * whole response is never materialized as a JSON tree next to the parsed objects.
+ * <p>
+ * The first bytes of the body are kept to report the error message of a failed request, which is not JSON.
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+class JsonArrayStream<E> implements WriteStream<Buffer> {
+
+  private static final int HEAD_LIMIT = 4096;
+
+  private final JsonParser parser = JsonParser.newParser();
+  private final List<E> list = new ArrayList<>();
+  private final Buffer head = Buffer.buffer();
+  private long bytes;
+  private Throwable failure;
+
+  JsonArrayStream(Function<JsonObject, E> elementParser) {
+    parser.objectValueMode();
+    parser.handler(event -> {
+      if (failure == null && event.type() == JsonEventType.VALUE && event.value() instanceof JsonObject) {
+        try {
+          list.add(elementParser.apply(event.objectValue()));
+        } catch (Exception e) {
+          failure = e;
+        }
+      }
+    });
+    parser.exceptionHandler(err -> {
+      if (failure == null) {
+        failure = err;
+      }
+    });
+  }
+
+  /**
+   * @return the parsed elements
+   * @throws RuntimeException if the body is not a JSON array or an element can't be parsed
+   */
+  List<E> result() {
+    if (failure instanceof RuntimeException) {
+      throw (RuntimeException) failure;
+    } else if (failure != null) {
+      throw new RuntimeException(failure);
+    }
+    return list;
+  }
+
+  /**
+   * @return the first bytes of the body as a string
+   */
+  String head() {
+    return head.toString();
+  }
+
+  /**
+   * @return the number of received bytes
+   */
+  long bytes() {
+    return bytes;
+  }
+
+  @Override
+  public Future<Void> write(Buffer data) {
+    bytes += data.length();
+    if (head.length() < HEAD_LIMIT) {
+      head.appendBuffer(data, 0, Math.min(data.length(), HEAD_LIMIT - head.length()));
+    }
+    if (failure == null) {
+      parser.handle(data);
+    }
+    return Future.succeededFuture();
+  }
+
+  @Override
+  public Future<Void> end() {
+    if (failure == null) {
+      parser.end();
+    }
+    return Future.succeededFuture();
+  }
+
+  @Override
+  public WriteStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+    return this;
+  }
+
+  @Override
+  public WriteStream<Buffer> setWriteQueueMaxSize(int maxSize) {
+    return this;
+  }
+
+  @Override
+  public boolean writeQueueFull() {
+    return false;
+  }
+
+  @Override
+  public WriteStream<Buffer> drainHandler(Handler<Void> handler) {
+    return this;
+  }
+}
@@ -18,8 +18,6 @@ package io.vertx.ext.consul.impl;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.consul.KeyValue;
 
-import java.util.Base64;
-
 /**
  * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
  */
@@ -36,7 +34,7 @@ class KVParser {
   static KeyValue parse(JsonObject json) {
     return new KeyValue()
       .setKey(json.getString(KEY_KEY))
-      .setValue(Utils.decode64(json.getString(VALUE_KEY)))
+      .setRawValue(Utils.decode64Buffer(json.getString(VALUE_KEY)))
       .setSession(json.getString(SESSION_KEY))
       .setFlags(json.getLong(FLAGS_KEY, 0L))
       .setCreateIndex(json.getLong(CREATE_KEY, 0L))
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.ext.consul.*;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+public class KeyValueReplicaImpl implements KeyValueReplica {
+
+  private final Watch<KeyValueDiff> watch;
+  private final Promise<Void> synced = Promise.promise();
+  private final PriorityQueue<Waiter> waiters = new PriorityQueue<>(Comparator.comparingLong(w -> w.index));
+  private volatile Snapshot snapshot = new Snapshot(0, PersistentTreeMap.empty());
+  private boolean started;
+  private boolean closed;
+
+  public KeyValueReplicaImpl(Vertx vertx, String keyPrefix, ConsulClientOptions options) {
+    // index-only advances are delivered as empty diffs, so that waiters are released
+    this.watch = new WatchFactoryImpl(vertx, options).keyPrefixIndex(keyPrefix).setHandler(this::update);
+  }
+
+  @Override
+  public synchronized Future<Void> start() {
+    if (closed) {
+      return Future.failedFuture(new IllegalStateException("Replica closed"));
+    }
+    if (!started) {
+      started = true;
+      watch.start();
+    }
+    return synced.future();
+  }
+
+  @Override
+  public void close() {
+    List<Waiter> pending;
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      if (started) {
+        watch.stop();
+      }
+      pending = new ArrayList<>(waiters);
+      waiters.clear();
+    }
+    IllegalStateException cause = new IllegalStateException("Replica closed");
+    synced.tryFail(cause);
+    pending.forEach(w -> w.promise.tryFail(cause));
+  }
+
+  @Override
+  public long index() {
+    return snapshot.index;
+  }
+
+  @Override
+  public KeyValue get(String key) {
+    return snapshot.map.get(key);
+  }
+
+  @Override
+  public List<String> getKeys(String keyPrefix) {
+    List<String> keys = new ArrayList<>();
+    range(snapshot.map, keyPrefix, kv -> keys.add(kv.getKey()));
+    return keys;
+  }
+
+  @Override
+  public KeyValueList getValues(String keyPrefix) {
+    Snapshot current = snapshot;
+    List<KeyValue> values = new ArrayList<>();
+    range(current.map, keyPrefix, values::add);
+    return new KeyValueList().setIndex(current.index).setList(values);
+  }
+
+  @Override
+  public Future<Void> awaitIndex(long index) {
+    synchronized (this) {
+      if (closed) {
+        return Future.failedFuture(new IllegalStateException("Replica closed"));
+      }
+      if (snapshot.index < index) {
+        Waiter waiter = new Waiter(index);
+        waiters.add(waiter);
+        return waiter.promise.future();
+      }
+    }
+    return Future.succeededFuture();
+  }
+
+  private void update(WatchResult<KeyValueDiff> result) {
+    if (result.failed()) {
+      synced.tryFail(result.cause());
+      return;
+    }
+    KeyValueDiff diff = result.nextResult();
+    // the index of Consul can go backwards, e.g. on a leader change, the replica never does
+    long index = Math.max(snapshot.index, diff.getIndex());
+    PersistentTreeMap<String, KeyValue> map = snapshot.map;
+    for (KeyValue kv : diff.getRemoved()) {
+      map = map.remove(kv.getKey());
+    }
+    for (KeyValue kv : diff.getAdded()) {
+      map = map.put(kv.getKey(), kv);
+    }
+    for (KeyValue kv : diff.getModified()) {
+      map = map.put(kv.getKey(), kv);
+    }
+    snapshot = new Snapshot(index, map);
+    synced.tryComplete();
+    List<Waiter> reached = new ArrayList<>();
+    synchronized (this) {
+      while (!waiters.isEmpty() && waiters.peek().index <= index) {
+        reached.add(waiters.poll());
+      }
+    }
+    reached.forEach(w -> w.promise.tryComplete());
+  }
+
+  private static void range(PersistentTreeMap<String, KeyValue> map, String keyPrefix, Consumer<KeyValue> consumer) {
+    if (keyPrefix == null || keyPrefix.isEmpty()) {
+      map.forEach((k, kv) -> consumer.accept(kv));
+      return;
+    }
+    map.forEachFrom(keyPrefix, (k, kv) -> {
+      if (!k.startsWith(keyPrefix)) {
+        return false;
+      }
+      consumer.accept(kv);
+      return true;
+    });
+  }
+
+  private static class Snapshot {
+    private final long index;
+    private final PersistentTreeMap<String, KeyValue> map;
+
+    private Snapshot(long index, PersistentTreeMap<String, KeyValue> map) {
+      this.index = index;
+      this.map = map;
+    }
+  }
+
+  private static class Waiter {
+    private final long index;
+    private final Promise<Void> promise = Promise.promise();
+
+    private Waiter(long index) {
+      this.index = index;
+    }
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxException;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.consul.*;
+import io.vertx.ext.consul.metrics.ConsulClientMetrics;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Optimistic read-modify-write of a key. The new value is committed by a {@link TxnKVVerb#CAS} transaction operation,
+ * which returns the new {@code ModifyIndex} of the key, unlike the {@code ?cas} parameter of the KV endpoint.
+ * <p>
+ * Consul reports the failed operation of a transaction only by its index and a message, so a failure is classified
+ * by the operation: a failed guard (a {@code cas} or check operation) may be a conflict and the key is read again.
+ * It is a conflict only if the key was modified since the previous read, otherwise the failure is reported.
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+class KeyValueUpdater {
+
+  private final Vertx vertx;
+  private final ConsulClient client;
+  private final String key;
+  private final Function<KeyValue, String> mapper;
+  private final KeyValueUpdateOptions options;
+  private int attempts;
+  private int conflicts;
+
+  private KeyValueUpdater(Vertx vertx, ConsulClient client, String key, Function<KeyValue, String> mapper,
+                          KeyValueUpdateOptions options) {
+    this.vertx = vertx;
+    this.client = client;
+    this.key = key;
+    this.mapper = mapper;
+    this.options = options;
+  }
+
+  static Future<KeyValue> update(Vertx vertx, ConsulClient client, ConsulClientMetrics metrics, String key,
+                                 Function<KeyValue, String> mapper, KeyValueUpdateOptions options) {
+    KeyValueUpdater updater = new KeyValueUpdater(vertx, client, key, mapper,
+      options == null ? new KeyValueUpdateOptions() : options);
+    Future<KeyValue> result = updater.attempt(client.getValue(key));
+    if (metrics == null) {
+      return result;
+    }
+    return result.andThen(ar -> metrics.updateEnd(updater.attempts, updater.conflicts, ar.succeeded()));
+  }
+
+  /**
+   * @return {@code true} if the failed operation of the transaction checks the index or the existence of a key,
+   * so that the failure can be caused by a concurrent modification of the key
+   */
+  static boolean isGuard(TxnRequest request, TxnError error) {
+    if (error.getOpIndex() < 0 || error.getOpIndex() >= request.getOperationsSize()) {
+      return false;
+    }
+    TxnOperation op = request.getOperations(error.getOpIndex());
+    if (!(op instanceof TxnKVOperation)) {
+      return false;
+    }
+    switch (((TxnKVOperation) op).getType()) {
+      case CAS:
+      case DELETE_CAS:
+      case CHECK_INDEX:
+      case CHECK_NOT_EXISTS:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * @return {@code true} if the key was modified, created or deleted between the two reads
+   */
+  static boolean modified(KeyValue before, KeyValue after) {
+    return before.isPresent() != after.isPresent() || before.getModifyIndex() != after.getModifyIndex();
+  }
+
+  /**
+   * @return the random delay of the retry in milliseconds, limited by the exponential backoff
+   */
+  static long backoff(long backoff, long maxBackoff, int retry) {
+    long limit = Math.max(1, Math.min(maxBackoff, backoff << Math.min(retry, 30)));
+    return 1 + ThreadLocalRandom.current().nextLong(limit);
+  }
+
+  private Future<KeyValue> attempt(Future<KeyValue> read) {
+    attempts++;
+    return read.compose(current -> {
+      String value = mapper.apply(current);
+      if (value == null) {
+        return Future.succeededFuture(current);
+      }
+      TxnRequest request = new TxnRequest().addOperation(new TxnKVOperation()
+        .setType(TxnKVVerb.CAS)
+        .setKey(key)
+        .setValue(value)
+        .setFlags(current.getFlags())
+        .setIndex(current.getModifyIndex()));
+      return client.transaction(request).compose(response -> {
+        if (response.getErrorsSize() == 0) {
+          KeyValue written = (KeyValue) response.getResult(0);
+          return Future.succeededFuture(written.setRawValue(Buffer.buffer(value)));
+        }
+        TxnError error = response.getError(0);
+        if (!isGuard(request, error)) {
+          return Future.failedFuture(new VertxException(error.getWhat(), true));
+        }
+        conflicts++;
+        if (attempts >= options.getMaxAttempts()) {
+          return Future.failedFuture(new VertxException("Key '" + key + "' was not updated after "
+            + attempts + " attempts because of concurrent modifications", true));
+        }
+        return retry(current, error);
+      });
+    });
+  }
+
+  private Future<KeyValue> retry(KeyValue conflicting, TxnError error) {
+    if (options.isWaitForChange()) {
+      BlockingQueryOptions wait = new BlockingQueryOptions()
+        .setIndex(conflicting.getModifyIndex())
+        .setWait(Math.max(1, options.getMaxBackoff()) + "ms");
+      return attempt(changed(conflicting, error, client.getValueWithOptions(key, wait)));
+    }
+    Promise<KeyValue> promise = Promise.promise();
+    long delay = backoff(options.getBackoff(), options.getMaxBackoff(), attempts - 1);
+    vertx.setTimer(delay, id -> attempt(changed(conflicting, error, client.getValue(key))).onComplete(promise));
+    return promise.future();
+  }
+
+  /**
+   * Fail with the error of the guard if the key was not modified since the previous read
+   */
+  private Future<KeyValue> changed(KeyValue conflicting, TxnError error, Future<KeyValue> read) {
+    return read.compose(current -> modified(conflicting, current)
+      ? Future.succeededFuture(current)
+      : Future.failedFuture(new VertxException(error.getWhat(), true)));
+  }
+}
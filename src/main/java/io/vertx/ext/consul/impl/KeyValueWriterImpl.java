@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxException;
+import io.vertx.ext.consul.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+public class KeyValueWriterImpl implements KeyValueWriter {
+
+  private final Vertx vertx;
+  private final ConsulClient client;
+  private final int maxBatchSize;
+  private final long flushInterval;
+  private final LongAdder coalesced = new LongAdder();
+  private final LongAdder batches = new LongAdder();
+  private final Deque<Batch> sealed = new ArrayDeque<>();
+  private Batch open;
+  private Batch last;
+  private boolean inFlight;
+  private int inFlightWrites;
+  private boolean closed;
+
+  public KeyValueWriterImpl(Vertx vertx, ConsulClientOptions options, KeyValueWriterOptions writerOptions) {
+    this.vertx = vertx;
+    this.client = ConsulClient.createShared(vertx, options);
+    // a transaction larger than that is rejected by Consul
+    this.maxBatchSize = Math.max(1, Math.min(TxnRequest.MAX_OPERATIONS, writerOptions.getMaxBatchSize()));
+    this.flushInterval = Math.max(1, writerOptions.getFlushInterval());
+  }
+
+  @Override
+  public Future<Boolean> put(String key, String value) {
+    return putWithOptions(key, value, null);
+  }
+
+  @Override
+  public Future<Boolean> putWithOptions(String key, String value, KeyValueOptions options) {
+    TxnKVOperation op;
+    try {
+      op = operation(key, value, options);
+    } catch (IllegalArgumentException e) {
+      return Future.failedFuture(e);
+    }
+    Promise<Boolean> promise = Promise.promise();
+    Batch full = null;
+    synchronized (this) {
+      if (closed) {
+        return Future.failedFuture(new IllegalStateException("Writer closed"));
+      }
+      if (open == null) {
+        Batch batch = new Batch();
+        batch.timerId = vertx.setTimer(flushInterval, id -> seal(batch));
+        open = batch;
+      }
+      if (op.getType() == TxnKVVerb.SET) {
+        Write write = open.sets.get(key);
+        if (write != null) {
+          write.op.setValue(value).setFlags(op.getFlags());
+          write.promises.add(promise);
+          coalesced.increment();
+          return promise.future();
+        }
+        write = new Write(op, promise);
+        open.sets.put(key, write);
+        open.writes.add(write);
+      } else {
+        // the later plain writes of the key must not be moved before this one
+        open.sets.remove(key);
+        open.writes.add(new Write(op, promise));
+      }
+      if (open.writes.size() >= maxBatchSize) {
+        full = open;
+      }
+    }
+    if (full != null) {
+      seal(full);
+    }
+    return promise.future();
+  }
+
+  @Override
+  public Future<Void> flush() {
+    Batch batch;
+    synchronized (this) {
+      batch = open;
+    }
+    if (batch != null) {
+      seal(batch);
+    }
+    synchronized (this) {
+      return last == null ? Future.succeededFuture() : last.done.future();
+    }
+  }
+
+  @Override
+  public synchronized int pending() {
+    int count = inFlightWrites + (open == null ? 0 : open.writes.size());
+    for (Batch batch : sealed) {
+      count += batch.writes.size();
+    }
+    return count;
+  }
+
+  @Override
+  public long coalescedCount() {
+    return coalesced.sum();
+  }
+
+  @Override
+  public long batchCount() {
+    return batches.sum();
+  }
+
+  @Override
+  public Future<Void> close() {
+    synchronized (this) {
+      closed = true;
+    }
+    return flush().andThen(v -> client.close());
+  }
+
+  private static TxnKVOperation operation(String key, String value, KeyValueOptions options) {
+    TxnKVOperation op = new TxnKVOperation().setKey(key).setValue(value).setType(TxnKVVerb.SET);
+    if (options == null) {
+      return op;
+    }
+    op.setFlags(options.getFlags());
+    boolean cas = options.getCasIndex() >= 0;
+    if (options.getAcquireSession() != null && options.getReleaseSession() != null
+      || (options.getAcquireSession() != null || options.getReleaseSession() != null) && cas) {
+      throw new IllegalArgumentException("Only one of Check-And-Set index, acquire session or release session can be used by a transaction");
+    }
+    if (cas) {
+      op.setType(TxnKVVerb.CAS).setIndex(options.getCasIndex());
+    } else if (options.getAcquireSession() != null) {
+      op.setType(TxnKVVerb.LOCK).setSession(options.getAcquireSession());
+    } else if (options.getReleaseSession() != null) {
+      op.setType(TxnKVVerb.UNLOCK).setSession(options.getReleaseSession());
+    }
+    return op;
+  }
+
+  private void seal(Batch batch) {
+    Batch next;
+    synchronized (this) {
+      if (open != batch) {
+        return;
+      }
+      vertx.cancelTimer(batch.timerId);
+      open = null;
+      last = batch;
+      sealed.add(batch);
+      next = poll();
+    }
+    if (next != null) {
+      send(next);
+    }
+  }
+
+  /**
+   * @return the next batch to send, or {@code null} if a batch is being sent or there are no sealed batches
+   */
+  private Batch poll() {
+    if (inFlight || sealed.isEmpty()) {
+      return null;
+    }
+    inFlight = true;
+    Batch batch = sealed.poll();
+    inFlightWrites = batch.writes.size();
+    return batch;
+  }
+
+  private void send(Batch batch) {
+    // the batch is counted once, even if it is partly rolled back and sent again
+    batches.increment();
+    send(batch, batch.writes);
+  }
+
+  private void send(Batch batch, List<Write> writes) {
+    TxnRequest request = new TxnRequest();
+    writes.forEach(write -> request.addOperation(write.op));
+    client.transaction(request).onComplete(ar -> {
+      // the counter is updated before the writes are completed, so that their handlers see it up to date
+      if (ar.failed()) {
+        setInFlightWrites(0);
+        writes.forEach(write -> write.fail(ar.cause()));
+        done(batch);
+        return;
+      }
+      TxnResponse response = ar.result();
+      if (response.getErrorsSize() == 0) {
+        setInFlightWrites(0);
+        writes.forEach(write -> write.complete(true));
+        done(batch);
+        return;
+      }
+      // the transaction is rolled back, so only the writes which caused the errors are completed
+      // and the other ones are sent again
+      BitSet failed = new BitSet(writes.size());
+      for (TxnError error : response.getErrors()) {
+        failed.set(error.getOpIndex());
+      }
+      List<Write> remaining = new ArrayList<>();
+      for (int i = 0; i < writes.size(); i++) {
+        if (!failed.get(i)) {
+          remaining.add(writes.get(i));
+        }
+      }
+      setInFlightWrites(remaining.size());
+      for (TxnError error : response.getErrors()) {
+        Write write = writes.get(error.getOpIndex());
+        if (write.op.getType() == TxnKVVerb.SET) {
+          write.fail(new VertxException(error.getWhat(), true));
+        } else {
+          write.complete(false);
+        }
+      }
+      if (remaining.isEmpty()) {
+        done(batch);
+      } else {
+        send(batch, remaining);
+      }
+    });
+  }
+
+  private synchronized void setInFlightWrites(int writes) {
+    inFlightWrites = writes;
+  }
+
+  private void done(Batch batch) {
+    Batch next;
+    synchronized (this) {
+      inFlight = false;
+      next = poll();
+    }
+    batch.done.complete();
+    if (next != null) {
+      send(next);
+    }
+  }
+
+  private static class Batch {
+    private final List<Write> writes = new ArrayList<>();
+    private final Map<String, Write> sets = new HashMap<>();
+    private final Promise<Void> done = Promise.promise();
+    private long timerId;
+  }
+
+  private static class Write {
+    private final TxnKVOperation op;
+    private final List<Promise<Boolean>> promises = new ArrayList<>(1);
+
+    private Write(TxnKVOperation op, Promise<Boolean> promise) {
+      this.op = op;
+      this.promises.add(promise);
+    }
+
+    private void complete(boolean result) {
+      promises.forEach(promise -> promise.complete(result));
+    }
+
+    private void fail(Throwable cause) {
+      promises.forEach(promise -> promise.fail(cause));
+    }
+  }
+}
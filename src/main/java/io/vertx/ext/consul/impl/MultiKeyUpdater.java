@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxException;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.consul.*;
+import io.vertx.ext.consul.metrics.ConsulClientMetrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Optimistic read-modify-write of a set of keys, committed by a single transaction. Each key of the snapshot
+ * is guarded: the written keys by {@link TxnKVVerb#CAS} (with the index {@code 0} for the absent keys)
+ * or {@link TxnKVVerb#DELETE_CAS} operations, the other present keys by {@link TxnKVVerb#CHECK_INDEX} operations
+ * and the other absent keys by {@link TxnKVVerb#CHECK_NOT_EXISTS} operations, so a concurrent create is detected too.
+ * When the transaction is rolled back by failed guards, only the keys reported by the errors are read again.
+ * The update is retried if some of them were modified since the previous read, otherwise the errors are reported,
+ * see {@link KeyValueUpdater#isGuard(TxnRequest, TxnError)}.
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+class MultiKeyUpdater {
+
+  private final Vertx vertx;
+  private final ConsulClient client;
+  private final List<String> keys;
+  private final Function<List<KeyValue>, Map<String, String>> mapper;
+  private final KeyValueUpdateOptions options;
+  private final Map<String, Integer> positions = new HashMap<>();
+  private final KeyValue[] snapshot;
+  private int attempts;
+  private int conflicts;
+
+  private MultiKeyUpdater(Vertx vertx, ConsulClient client, List<String> keys,
+                          Function<List<KeyValue>, Map<String, String>> mapper, KeyValueUpdateOptions options) {
+    this.vertx = vertx;
+    this.client = client;
+    this.keys = keys;
+    this.mapper = mapper;
+    this.options = options;
+    this.snapshot = new KeyValue[keys.size()];
+    for (int i = 0; i < keys.size(); i++) {
+      positions.put(keys.get(i), i);
+    }
+  }
+
+  static Future<List<KeyValue>> update(Vertx vertx, ConsulClient client, ConsulClientMetrics metrics, List<String> keys,
+                                       Function<List<KeyValue>, Map<String, String>> mapper, KeyValueUpdateOptions options) {
+    if (new LinkedHashSet<>(keys).size() != keys.size()) {
+      return Future.failedFuture(new IllegalArgumentException("Duplicate keys"));
+    }
+    if (keys.size() > TxnRequest.MAX_OPERATIONS) {
+      return Future.failedFuture(new IllegalArgumentException("At most " + TxnRequest.MAX_OPERATIONS
+        + " keys can be updated by a single transaction"));
+    }
+    MultiKeyUpdater updater = new MultiKeyUpdater(vertx, client, keys, mapper,
+      options == null ? new KeyValueUpdateOptions() : options);
+    Future<List<KeyValue>> result = updater.attempt(client.getValuesByKeys(keys).map(list -> {
+      list.toArray(updater.snapshot);
+      return null;
+    }));
+    if (metrics == null) {
+      return result;
+    }
+    return result.andThen(ar -> metrics.updateEnd(updater.attempts, updater.conflicts, ar.succeeded()));
+  }
+
+  private Future<List<KeyValue>> attempt(Future<Void> read) {
+    attempts++;
+    return read.compose(v -> {
+      List<KeyValue> current = new ArrayList<>(Arrays.asList(snapshot));
+      Map<String, String> writes = mapper.apply(current);
+      if (writes == null || writes.isEmpty()) {
+        return Future.succeededFuture(current);
+      }
+      for (String key : writes.keySet()) {
+        if (!positions.containsKey(key)) {
+          return Future.failedFuture(new IllegalArgumentException("Key '" + key + "' was not read by the update"));
+        }
+      }
+      TxnRequest request = new TxnRequest();
+      for (int i = 0; i < keys.size(); i++) {
+        String key = keys.get(i);
+        KeyValue kv = snapshot[i];
+        TxnKVOperation op = new TxnKVOperation().setKey(key).setIndex(kv.getModifyIndex());
+        if (writes.containsKey(key)) {
+          String value = writes.get(key);
+          if (value != null) {
+            op.setType(TxnKVVerb.CAS).setValue(value).setFlags(kv.getFlags());
+          } else if (kv.isPresent()) {
+            op.setType(TxnKVVerb.DELETE_CAS);
+          } else {
+            // deleting an absent key, it must still be absent
+            op.setType(TxnKVVerb.CHECK_NOT_EXISTS);
+          }
+        } else if (kv.isPresent()) {
+          op.setType(TxnKVVerb.CHECK_INDEX);
+        } else {
+          op.setType(TxnKVVerb.CHECK_NOT_EXISTS);
+        }
+        request.addOperation(op);
+      }
+      return client.transaction(request).compose(response -> {
+        if (response.getErrorsSize() == 0) {
+          return Future.succeededFuture(committed(current, writes, response));
+        }
+        Set<String> conflicting = new LinkedHashSet<>();
+        for (TxnError error : response.getErrors()) {
+          if (!KeyValueUpdater.isGuard(request, error)) {
+            return Future.failedFuture(new VertxException(error.getWhat(), true));
+          }
+          conflicting.add(keys.get(error.getOpIndex()));
+        }
+        conflicts++;
+        if (attempts >= options.getMaxAttempts()) {
+          return Future.failedFuture(new VertxException("Keys " + conflicting + " were not updated after "
+            + attempts + " attempts because of concurrent modifications", true));
+        }
+        return retry(new ArrayList<>(conflicting), response.getError(0));
+      });
+    });
+  }
+
+  private List<KeyValue> committed(List<KeyValue> current, Map<String, String> writes, TxnResponse response) {
+    Map<String, KeyValue> results = new HashMap<>();
+    for (TxnResult result : response.getResults()) {
+      if (result instanceof KeyValue) {
+        results.put(((KeyValue) result).getKey(), (KeyValue) result);
+      }
+    }
+    writes.forEach((key, value) -> {
+      int pos = positions.get(key);
+      KeyValue written = results.get(key);
+      current.set(pos, value == null || written == null ? new KeyValue() : written.setRawValue(Buffer.buffer(value)));
+    });
+    return current;
+  }
+
+  /**
+   * Read the conflicting keys again and retry the update
+   */
+  private Future<List<KeyValue>> retry(List<String> conflicting, TxnError error) {
+    if (options.isWaitForChange()) {
+      List<Future<KeyValue>> reads = new ArrayList<>();
+      for (String key : conflicting) {
+        BlockingQueryOptions wait = new BlockingQueryOptions()
+          .setIndex(snapshot[positions.get(key)].getModifyIndex())
+          .setWait(Math.max(1, options.getMaxBackoff()) + "ms");
+        reads.add(client.getValueWithOptions(key, wait));
+      }
+      return attempt(Future.all(reads).compose(all -> changed(conflicting, all.list(), error)));
+    }
+    Promise<List<KeyValue>> promise = Promise.promise();
+    long delay = KeyValueUpdater.backoff(options.getBackoff(), options.getMaxBackoff(), attempts - 1);
+    vertx.setTimer(delay, id -> attempt(client.getValuesByKeys(conflicting)
+      .compose(list -> changed(conflicting, list, error))).onComplete(promise));
+    return promise.future();
+  }
+
+  /**
+   * Update the snapshot with the keys read again, or fail with the error of a guard if none of them was modified
+   */
+  private Future<Void> changed(List<String> conflicting, List<KeyValue> read, TxnError error) {
+    boolean modified = false;
+    for (int i = 0; i < conflicting.size(); i++) {
+      int pos = positions.get(conflicting.get(i));
+      modified |= KeyValueUpdater.modified(snapshot[pos], read.get(i));
+      snapshot[pos] = read.get(i);
+    }
+    return modified ? Future.succeededFuture() : Future.failedFuture(new VertxException(error.getWhat(), true));
+  }
+}
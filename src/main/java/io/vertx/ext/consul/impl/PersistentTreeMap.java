@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul.impl;
+
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+
+/**
+ * Immutable sorted map, implemented as an AVL tree with path copying.
+ * Updates return a new map which shares all the untouched nodes with the original one, so an update costs {@code O(log n)}
+ * and any version of the map can be read from any thread without locks or copies.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+public final class PersistentTreeMap<K extends Comparable<K>, V> {
+
+  private static final PersistentTreeMap<?, ?> EMPTY = new PersistentTreeMap<>(null);
+
+  private final Node<K, V> root;
+
+  private PersistentTreeMap(Node<K, V> root) {
+    this.root = root;
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <K extends Comparable<K>, V> PersistentTreeMap<K, V> empty() {
+    return (PersistentTreeMap<K, V>) EMPTY;
+  }
+
+  public int size() {
+    return size(root);
+  }
+
+  public boolean isEmpty() {
+    return root == null;
+  }
+
+  public V get(K key) {
+    Node<K, V> node = root;
+    while (node != null) {
+      int c = key.compareTo(node.key);
+      if (c == 0) {
+        return node.value;
+      }
+      node = c < 0 ? node.left : node.right;
+    }
+    return null;
+  }
+
+  /**
+   * @return the map with the key mapped to the value, or this map if the key is already mapped to the same value
+   */
+  public PersistentTreeMap<K, V> put(K key, V value) {
+    Node<K, V> updated = insert(root, key, value);
+    return updated == root ? this : new PersistentTreeMap<>(updated);
+  }
+
+  /**
+   * @return the map without the key, or this map if there is no such key
+   */
+  public PersistentTreeMap<K, V> remove(K key) {
+    Node<K, V> updated = delete(root, key);
+    return updated == root ? this : new PersistentTreeMap<>(updated);
+  }
+
+  /**
+   * Visit all the entries in the order of keys.
+   */
+  public void forEach(BiConsumer<K, V> visitor) {
+    visitFrom(root, null, (k, v) -> {
+      visitor.accept(k, v);
+      return true;
+    });
+  }
+
+  /**
+   * Visit the entries with keys greater or equal to {@code from} in the order of keys, until the visitor returns {@code false}.
+   */
+  public void forEachFrom(K from, BiPredicate<K, V> visitor) {
+    visitFrom(root, from, visitor);
+  }
+
+  private static <K extends Comparable<K>, V> boolean visitFrom(Node<K, V> node, K from, BiPredicate<K, V> visitor) {
+    if (node == null) {
+      return true;
+    }
+    int c = from == null ? -1 : from.compareTo(node.key);
+    if (c < 0 && !visitFrom(node.left, from, visitor)) {
+      return false;
+    }
+    if (c <= 0 && !visitor.test(node.key, node.value)) {
+      return false;
+    }
+    return visitFrom(node.right, c > 0 ? from : null, visitor);
+  }
+
+  private static <K extends Comparable<K>, V> Node<K, V> insert(Node<K, V> node, K key, V value) {
+    if (node == null) {
+      return new Node<>(key, value, null, null);
+    }
+    int c = key.compareTo(node.key);
+    if (c < 0) {
+      Node<K, V> left = insert(node.left, key, value);
+      return left == node.left ? node : balance(node.key, node.value, left, node.right);
+    } else if (c > 0) {
+      Node<K, V> right = insert(node.right, key, value);
+      return right == node.right ? node : balance(node.key, node.value, node.left, right);
+    } else {
+      return node.value == value ? node : new Node<>(key, value, node.left, node.right);
+    }
+  }
+
+  private static <K extends Comparable<K>, V> Node<K, V> delete(Node<K, V> node, K key) {
+    if (node == null) {
+      return null;
+    }
+    int c = key.compareTo(node.key);
+    if (c < 0) {
+      Node<K, V> left = delete(node.left, key);
+      return left == node.left ? node : balance(node.key, node.value, left, node.right);
+    } else if (c > 0) {
+      Node<K, V> right = delete(node.right, key);
+      return right == node.right ? node : balance(node.key, node.value, node.left, right);
+    }
+    if (node.left == null) {
+      return node.right;
+    }
+    if (node.right == null) {
+      return node.left;
+    }
+    Node<K, V> min = node.right;
+    while (min.left != null) {
+      min = min.left;
+    }
+    return balance(min.key, min.value, node.left, deleteMin(node.right));
+  }
+
+  private static <K extends Comparable<K>, V> Node<K, V> deleteMin(Node<K, V> node) {
+    if (node.left == null) {
+      return node.right;
+    }
+    return balance(node.key, node.value, deleteMin(node.left), node.right);
+  }
+
+  private static <K extends Comparable<K>, V> Node<K, V> balance(K key, V value, Node<K, V> left, Node<K, V> right) {
+    int hl = height(left);
+    int hr = height(right);
+    if (hl > hr + 1) {
+      if (height(left.left) >= height(left.right)) {
+        return new Node<>(left.key, left.value, left.left, new Node<>(key, value, left.right, right));
+      }
+      Node<K, V> lr = left.right;
+      return new Node<>(lr.key, lr.value, new Node<>(left.key, left.value, left.left, lr.left), new Node<>(key, value, lr.right, right));
+    }
+    if (hr > hl + 1) {
+      if (height(right.right) >= height(right.left)) {
+        return new Node<>(right.key, right.value, new Node<>(key, value, left, right.left), right.right);
+      }
+      Node<K, V> rl = right.left;
+      return new Node<>(rl.key, rl.value, new Node<>(key, value, left, rl.left), new Node<>(right.key, right.value, rl.right, right.right));
+    }
+    return new Node<>(key, value, left, right);
+  }
+
+  private static int height(Node<?, ?> node) {
+    return node == null ? 0 : node.height;
+  }
+
+  private static int size(Node<?, ?> node) {
+    return node == null ? 0 : node.size;
+  }
+
+  private static final class Node<K, V> {
+    private final K key;
+    private final V value;
+    private final Node<K, V> left;
+    private final Node<K, V> right;
+    private final int height;
+    private final int size;
+
+    private Node(K key, V value, Node<K, V> left, Node<K, V> right) {
+      this.key = key;
+      this.value = value;
+      this.left = left;
+      this.right = right;
+      this.height = Math.max(height(left), height(right)) + 1;
+      this.size = size(left) + size(right) + 1;
+    }
+  }
+}
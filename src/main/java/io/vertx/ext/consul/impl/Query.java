@@ -16,7 +16,9 @@
 package io.vertx.ext.consul.impl;
 
 import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.consul.AgentCacheOptions;
 import io.vertx.ext.consul.BlockingQueryOptions;
+import io.vertx.ext.consul.ConsistencyMode;
 import io.vertx.ext.web.client.HttpRequest;
 
 import java.util.HashMap;
@@ -29,6 +31,8 @@ import java.util.Set;
 class Query {
 
   private final Map<String, String> map = new HashMap<>();
+  private final Map<String, String> headers = new HashMap<>();
+  private boolean consistencyMode;
 
   static Query of(BlockingQueryOptions options) {
     return new Query().put(options);
@@ -55,11 +59,63 @@ class Query {
       if (options.getWait() != null) {
         put("wait", options.getWait());
       }
+      put(options.getConsistencyMode());
+      put("max_stale", options.getMaxStale());
+      put(options.getCacheOptions());
     }
     return this;
   }
 
+  Query put(ConsistencyMode mode) {
+    if (mode != null) {
+      consistencyMode = true;
+    }
+    if (mode == ConsistencyMode.STALE) {
+      map.put("stale", "");
+    } else if (mode == ConsistencyMode.CONSISTENT) {
+      map.put("consistent", "");
+    }
+    return this;
+  }
+
+  Query put(AgentCacheOptions options) {
+    if (options != null) {
+      map.put("cached", "");
+      StringBuilder cacheControl = new StringBuilder();
+      if (options.getMaxAge() > 0) {
+        cacheControl.append("max-age=").append(options.getMaxAge());
+      }
+      if (options.getStaleIfError() > 0) {
+        if (cacheControl.length() > 0) {
+          cacheControl.append(", ");
+        }
+        cacheControl.append("stale-if-error=").append(options.getStaleIfError());
+      }
+      if (cacheControl.length() > 0) {
+        headers.put("Cache-Control", cacheControl.toString());
+      }
+    }
+    return this;
+  }
+
+  boolean isCached() {
+    return map.containsKey("cached");
+  }
+
+  boolean hasConsistencyMode() {
+    return consistencyMode || map.containsKey("max_stale");
+  }
+
+  boolean isBlocking() {
+    String index = map.get("index");
+    return index != null && !index.equals("0");
+  }
+
   Set<Map.Entry<String, String>> entrySet() {
     return map.entrySet();
   }
+
+  Set<Map.Entry<String, String>> headers() {
+    return headers.entrySet();
+  }
 }
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.ext.consul.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+public class ServiceCacheImpl implements ServiceCache {
+
+  private final Vertx vertx;
+  private final WatchFactory watches;
+  private final long idleTimeout;
+  private final int maxEntries;
+  // access ordered, the least recently used service comes first
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final long timerId;
+  private boolean closed;
+
+  public ServiceCacheImpl(Vertx vertx, ConsulClientOptions options, ServiceCacheOptions cacheOptions) {
+    this.vertx = vertx;
+    this.watches = WatchFactory.create(vertx, options);
+    this.idleTimeout = cacheOptions.getIdleTimeout();
+    this.maxEntries = Math.max(1, cacheOptions.getMaxEntries());
+    this.timerId = vertx.setPeriodic(Math.max(1000, idleTimeout / 2), id -> evictIdle());
+  }
+
+  @Override
+  public Future<ServiceEntryList> healthServiceNodes(String service, boolean passing) {
+    Entry entry;
+    Entry evicted = null;
+    boolean created = false;
+    synchronized (this) {
+      if (closed) {
+        return Future.failedFuture(new IllegalStateException("Cache closed"));
+      }
+      entry = entries.get(service);
+      if (entry == null) {
+        if (entries.size() >= maxEntries) {
+          Iterator<Entry> eldest = entries.values().iterator();
+          evicted = eldest.next();
+          eldest.remove();
+        }
+        entry = new Entry(watches.service(service));
+        entries.put(service, entry);
+        created = true;
+      }
+      entry.lastAccess = System.currentTimeMillis();
+    }
+    if (evicted != null) {
+      stop(evicted);
+    }
+    Nodes nodes = entry.nodes;
+    if (nodes != null) {
+      hits.increment();
+      return Future.succeededFuture(nodes.get(passing));
+    }
+    misses.increment();
+    if (created) {
+      start(service, entry);
+    }
+    return entry.ready.future().map(n -> n.get(passing));
+  }
+
+  @Override
+  public long hitCount() {
+    return hits.sum();
+  }
+
+  @Override
+  public long missCount() {
+    return misses.sum();
+  }
+
+  @Override
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  @Override
+  public void close() {
+    List<Entry> evicted;
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      evicted = new ArrayList<>(entries.values());
+      entries.clear();
+    }
+    vertx.cancelTimer(timerId);
+    evicted.forEach(this::stop);
+  }
+
+  private void start(String service, Entry created) {
+    created.watch.setHandler(res -> {
+      if (res.succeeded()) {
+        created.nodes = new Nodes(res.nextResult());
+        created.ready.tryComplete(created.nodes);
+      } else if (created.ready.tryFail(res.cause())) {
+        // nothing to serve yet, the next lookup starts over
+        boolean removed;
+        synchronized (this) {
+          removed = entries.remove(service, created);
+        }
+        if (removed) {
+          stop(created);
+        }
+      }
+    }).start();
+  }
+
+  private void evictIdle() {
+    long deadline = System.currentTimeMillis() - idleTimeout;
+    List<Entry> evicted = new ArrayList<>();
+    synchronized (this) {
+      // only the idle services at the head of the access order are visited
+      Iterator<Entry> it = entries.values().iterator();
+      while (it.hasNext()) {
+        Entry entry = it.next();
+        if (entry.lastAccess >= deadline) {
+          break;
+        }
+        it.remove();
+        evicted.add(entry);
+      }
+    }
+    evicted.forEach(this::stop);
+  }
+
+  private void stop(Entry entry) {
+    entry.ready.tryFail(new IllegalStateException("Service evicted from cache"));
+    entry.watch.stop();
+  }
+
+  private static class Entry {
+    private final Watch<ServiceEntryList> watch;
+    private final Promise<Nodes> ready = Promise.promise();
+    private volatile Nodes nodes;
+    private long lastAccess = System.currentTimeMillis();
+
+    private Entry(Watch<ServiceEntryList> watch) {
+      this.watch = watch;
+    }
+  }
+
+  /**
+   * The result of the service watch with the passing nodes filtered once per update, not per lookup.
+   * The lists are unmodifiable, each lookup gets its own {@link ServiceEntryList} sharing them.
+   */
+  private static class Nodes {
+    private final ServiceEntryList all;
+    private final ServiceEntryList passing;
+
+    private Nodes(ServiceEntryList result) {
+      if (result.getList() == null) {
+        this.all = result;
+        this.passing = result;
+      } else {
+        this.all = new ServiceEntryList(result).setList(Collections.unmodifiableList(new ArrayList<>(result.getList())));
+        List<ServiceEntry> filtered = result.getList().stream()
+          .filter(entry -> entry.getChecks() == null || entry.aggregatedStatus() == CheckStatus.PASSING)
+          .collect(Collectors.toList());
+        this.passing = new ServiceEntryList(all).setList(Collections.unmodifiableList(filtered));
+      }
+    }
+
+    private ServiceEntryList get(boolean passing) {
+      return new ServiceEntryList(passing ? this.passing : all);
+    }
+  }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.ext.consul.*;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+public class ServiceLoadBalancerImpl implements ServiceLoadBalancer {
+
+  private final Watch<ServiceEntryList> watch;
+  private final LoadBalancerStrategy strategy;
+  private final Promise<Void> ready = Promise.promise();
+  private final AtomicBoolean started = new AtomicBoolean();
+  private volatile boolean closed;
+  private final AtomicInteger next = new AtomicInteger();
+  private volatile Table table = Table.EMPTY;
+
+  public ServiceLoadBalancerImpl(Vertx vertx, String service, LoadBalancerStrategy strategy, ConsulClientOptions options) {
+    this.strategy = Objects.requireNonNull(strategy);
+    this.watch = WatchFactory.create(vertx, options).service(service).setHandler(this::update);
+  }
+
+  @Override
+  public Future<Void> start() {
+    if (closed) {
+      return Future.failedFuture(new IllegalStateException("Load balancer closed"));
+    }
+    if (started.compareAndSet(false, true)) {
+      watch.start();
+    }
+    return ready.future();
+  }
+
+  @Override
+  public ServiceEntry select() {
+    Table t = table;
+    int n = t.entries.length;
+    if (n == 0) {
+      return null;
+    }
+    int i;
+    switch (strategy) {
+      case POWER_OF_TWO_CHOICES:
+        i = n == 1 ? 0 : t.lessLoaded(ThreadLocalRandom.current(), n);
+        break;
+      case WEIGHTED_RANDOM:
+        i = t.weighted(ThreadLocalRandom.current().nextInt(t.totalWeight));
+        break;
+      default:
+        i = Math.floorMod(next.getAndIncrement(), n);
+    }
+    t.slots[i].inFlight.incrementAndGet();
+    return t.entries[i];
+  }
+
+  @Override
+  public void release(ServiceEntry entry) {
+    Table t = table;
+    Slot slot = t.byEntry.get(entry);
+    if (slot == null) {
+      // the table was swapped after the selection
+      slot = t.byId.get(Table.id(entry));
+    }
+    if (slot != null) {
+      int current;
+      do {
+        current = slot.inFlight.get();
+      } while (current > 0 && !slot.inFlight.compareAndSet(current, current - 1));
+    }
+  }
+
+  @Override
+  public int size() {
+    return table.entries.length;
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    if (started.compareAndSet(true, false)) {
+      watch.stop();
+    }
+    ready.tryFail(new IllegalStateException("Load balancer closed"));
+  }
+
+  private void update(WatchResult<ServiceEntryList> result) {
+    if (result.succeeded()) {
+      List<ServiceEntry> list = result.nextResult().getList();
+      table = new Table(list == null ? Collections.emptyList() : list, table);
+      ready.tryComplete();
+    } else {
+      ready.tryFail(result.cause());
+    }
+  }
+
+  private static final class Slot {
+    private final AtomicInteger inFlight = new AtomicInteger();
+  }
+
+  /**
+   * Immutable selection table, rebuilt on each update of the watch. The requests in flight are carried over
+   * to the new table by the instance identity.
+   */
+  private static final class Table {
+
+    private static final Table EMPTY = new Table(Collections.emptyList(), null);
+
+    private final ServiceEntry[] entries;
+    private final Slot[] slots;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+    private final Map<ServiceEntry, Slot> byEntry;
+    private final Map<String, Slot> byId;
+
+    private Table(List<ServiceEntry> list, Table prev) {
+      List<ServiceEntry> available = new ArrayList<>(list.size());
+      List<ServiceEntry> weighted = new ArrayList<>(list.size());
+      for (ServiceEntry entry : list) {
+        if (status(entry) != CheckStatus.CRITICAL) {
+          available.add(entry);
+          if (weight(entry) > 0) {
+            weighted.add(entry);
+          }
+        }
+      }
+      // the instances of weight 0 are skipped, unless all the instances are of weight 0
+      boolean fallback = weighted.isEmpty();
+      entries = (fallback ? available : weighted).toArray(new ServiceEntry[0]);
+      slots = new Slot[entries.length];
+      cumulativeWeights = new int[entries.length];
+      byEntry = new IdentityHashMap<>(entries.length);
+      byId = new HashMap<>(entries.length * 2);
+      int total = 0;
+      for (int i = 0; i < entries.length; i++) {
+        String id = id(entries[i]);
+        Slot slot = prev == null ? null : prev.byId.get(id);
+        slots[i] = slot == null ? new Slot() : slot;
+        byEntry.put(entries[i], slots[i]);
+        byId.put(id, slots[i]);
+        total += fallback ? 1 : weight(entries[i]);
+        cumulativeWeights[i] = total;
+      }
+      totalWeight = total;
+    }
+
+    private int lessLoaded(Random random, int n) {
+      int a = random.nextInt(n);
+      int b = random.nextInt(n - 1);
+      if (b >= a) {
+        b++;
+      }
+      return slots[a].inFlight.get() <= slots[b].inFlight.get() ? a : b;
+    }
+
+    private int weighted(int point) {
+      int low = 0;
+      int high = cumulativeWeights.length - 1;
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (cumulativeWeights[mid] > point) {
+          high = mid;
+        } else {
+          low = mid + 1;
+        }
+      }
+      return low;
+    }
+
+    private static String id(ServiceEntry entry) {
+      return entry.getNode().getName() + '/' + entry.getService().getId();
+    }
+
+    private static CheckStatus status(ServiceEntry entry) {
+      return entry.getChecks() == null ? CheckStatus.PASSING : entry.aggregatedStatus();
+    }
+
+    private static int weight(ServiceEntry entry) {
+      return status(entry) == CheckStatus.WARNING
+        ? entry.getService().getWarningWeight()
+        : entry.getService().getPassingWeight();
+    }
+  }
+}
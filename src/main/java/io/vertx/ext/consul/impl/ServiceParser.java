@@ -36,16 +36,20 @@ class ServiceParser {
   private static final String AGENT_SERVICE_ADDRESS = "Address";
   private static final String AGENT_SERVICE_META = "Meta";
   private static final String AGENT_SERVICE_PORT = "Port";
+  private static final String AGENT_SERVICE_WEIGHTS = "Weights";
+  private static final String WEIGHTS_PASSING = "Passing";
+  private static final String WEIGHTS_WARNING = "Warning";
 
   static Service parseAgentInfo(JsonObject jsonObject) {
     JsonArray tagsArr = jsonObject.getJsonArray(AGENT_SERVICE_TAGS);
-    return new Service()
+    Service service = new Service()
       .setId(jsonObject.getString(AGENT_SERVICE_ID))
       .setName(jsonObject.getString(AGENT_SERVICE_SERVICE))
       .setTags(listOf(tagsArr))
       .setMeta(mapStringString(jsonObject.getJsonObject(AGENT_SERVICE_META)))
       .setAddress(jsonObject.getString(AGENT_SERVICE_ADDRESS))
       .setPort(jsonObject.getInteger(AGENT_SERVICE_PORT, 0));
+    return weights(service, jsonObject.getJsonObject(AGENT_SERVICE_WEIGHTS));
   }
 
   static Service parseCatalogInfo(Map.Entry<String, Object> entry) {
@@ -57,7 +61,7 @@ class ServiceParser {
 
   static Service parseNodeInfo(String nodeName, String nodeAddress, JsonObject serviceInfo) {
     JsonArray tagsArr = serviceInfo.getJsonArray(AGENT_SERVICE_TAGS);
-    return new Service()
+    Service service = new Service()
       .setNode(nodeName)
       .setNodeAddress(nodeAddress)
       .setId(serviceInfo.getString(AGENT_SERVICE_ID))
@@ -66,6 +70,16 @@ class ServiceParser {
       .setName(serviceInfo.getString(AGENT_SERVICE_SERVICE))
       .setTags(listOf(tagsArr))
       .setPort(serviceInfo.getInteger(AGENT_SERVICE_PORT));
+    return weights(service, serviceInfo.getJsonObject(AGENT_SERVICE_WEIGHTS));
+  }
+
+  private static Service weights(Service service, JsonObject weights) {
+    if (weights != null) {
+      service
+        .setPassingWeight(weights.getInteger(WEIGHTS_PASSING, 0))
+        .setWarningWeight(weights.getInteger(WEIGHTS_WARNING, 0));
+    }
+    return service;
   }
 
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul.impl;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.shareddata.LocalMap;
+import io.vertx.core.shareddata.Shareable;
+import io.vertx.ext.consul.ConsulClient;
+import io.vertx.ext.consul.ConsulClientOptions;
+import io.vertx.ext.web.client.WebClient;
+
+/**
+ * Reference counted {@link WebClient} pair (unary requests and blocking queries) shared by all the clients
+ * created with the same options. The underlying connection pools are closed when the last client using them is closed.
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+class SharedTransport implements Shareable {
+
+  private static final String LOCAL_MAP_NAME = "__vertx.ConsulClient.transports";
+  private static final Object LOCK = new Object();
+
+  private final Vertx vertx;
+  private final String key;
+  private final HttpClient httpClient;
+  private final WebClient webClient;
+  private final WebClient longPollClient;
+  private int refCount;
+
+  private SharedTransport(Vertx vertx, String key, ConsulClientOptions options) {
+    this.vertx = vertx;
+    this.key = key;
+    this.httpClient = ConsulClientImpl.createHttpClient(vertx, options, options.getMaxPoolSize());
+    this.webClient = WebClient.wrap(httpClient, options);
+    this.longPollClient = WebClient.wrap(ConsulClientImpl.createHttpClient(vertx, options, options.getLongPollMaxPoolSize()), options);
+  }
+
+  static ConsulClient acquire(Vertx vertx, ConsulClientOptions options) {
+    String key = options.toJson().encode();
+    synchronized (LOCK) {
+      LocalMap<String, SharedTransport> map = vertx.sharedData().getLocalMap(LOCAL_MAP_NAME);
+      SharedTransport transport = map.get(key);
+      if (transport == null) {
+        transport = new SharedTransport(vertx, key, options);
+        map.put(key, transport);
+      }
+      transport.refCount++;
+      return new ConsulClientImpl(transport, options);
+    }
+  }
+
+  Vertx vertx() {
+    return vertx;
+  }
+
+  HttpClient httpClient() {
+    return httpClient;
+  }
+
+  WebClient webClient() {
+    return webClient;
+  }
+
+  WebClient longPollClient() {
+    return longPollClient;
+  }
+
+  void release() {
+    synchronized (LOCK) {
+      if (--refCount == 0) {
+        vertx.sharedData().getLocalMap(LOCAL_MAP_NAME).remove(key);
+        webClient.close();
+        longPollClient.close();
+      }
+    }
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul.impl;
+
+import io.vertx.core.Future;
+import io.vertx.ext.consul.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reads a set of keys with {@code get} transaction operations. The keys are split into chunks of at most
+ * {@link TxnRequest#MAX_OPERATIONS} operations, the chunks are sent concurrently by at most {@link #CONCURRENCY} requests.
+ * <p>
+ * Consul rolls back the whole transaction if one of the keys does not exist, so the failed chunk is sent again
+ * without the keys reported by the errors, until it succeeds or fails for another reason. A missing key is told
+ * apart from the other failures of a {@code get} operation (e.g. a denied key) only by the message of the error,
+ * see {@link #isMissing(TxnError)}. A {@code get-tree} operation would not fail, but it would read the whole subtree
+ * of the keys which are prefixes of other keys.
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+final class TxnKeyReader {
+
+  static final int CONCURRENCY = 4;
+
+  /**
+   * The part of the error message reported by Consul for a {@code get} operation of a missing key,
+   * {@code key "..." doesn't exist}
+   */
+  static final String MISSING_KEY = "doesn't exist";
+
+  private final ConsulClient client;
+  private final List<String> keys;
+  private final KeyValue[] values;
+  private final AtomicInteger nextChunk = new AtomicInteger();
+  private final int chunks;
+
+  private TxnKeyReader(ConsulClient client, List<String> keys) {
+    this.client = client;
+    this.keys = keys;
+    this.values = new KeyValue[keys.size()];
+    this.chunks = (keys.size() + TxnRequest.MAX_OPERATIONS - 1) / TxnRequest.MAX_OPERATIONS;
+  }
+
+  static Future<List<KeyValue>> read(ConsulClient client, List<String> keys) {
+    return new TxnKeyReader(client, keys).read();
+  }
+
+  private Future<List<KeyValue>> read() {
+    List<Future<Void>> workers = new ArrayList<>();
+    for (int i = 0; i < Math.min(chunks, CONCURRENCY); i++) {
+      workers.add(next());
+    }
+    return Future.all(workers).map(v -> {
+      List<KeyValue> list = Arrays.asList(values);
+      list.replaceAll(kv -> kv == null ? new KeyValue() : kv);
+      return list;
+    });
+  }
+
+  private Future<Void> next() {
+    int chunk = nextChunk.getAndIncrement();
+    if (chunk >= chunks) {
+      return Future.succeededFuture();
+    }
+    List<Integer> positions = new ArrayList<>();
+    for (int i = chunk * TxnRequest.MAX_OPERATIONS; i < Math.min(keys.size(), (chunk + 1) * TxnRequest.MAX_OPERATIONS); i++) {
+      positions.add(i);
+    }
+    return readChunk(positions).compose(v -> next());
+  }
+
+  private Future<Void> readChunk(List<Integer> positions) {
+    if (positions.isEmpty()) {
+      return Future.succeededFuture();
+    }
+    TxnRequest request = new TxnRequest();
+    positions.forEach(pos -> request.addOperation(new TxnKVOperation().setType(TxnKVVerb.GET).setKey(keys.get(pos))));
+    return client.transaction(request).compose(response -> {
+      if (response.getErrorsSize() == 0) {
+        for (int i = 0; i < positions.size(); i++) {
+          values[positions.get(i)] = (KeyValue) response.getResult(i);
+        }
+        return Future.succeededFuture();
+      }
+      List<Integer> remaining = new ArrayList<>(positions);
+      for (TxnError error : response.getErrors()) {
+        if (!isMissing(error)) {
+          return Future.failedFuture(error.getWhat());
+        }
+        remaining.set(error.getOpIndex(), null);
+      }
+      remaining.removeIf(pos -> pos == null);
+      return readChunk(remaining);
+    });
+  }
+
+  static boolean isMissing(TxnError error) {
+    return error.getWhat() != null && error.getWhat().contains(MISSING_KEY);
+  }
+}
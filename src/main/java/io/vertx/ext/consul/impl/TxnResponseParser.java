@@ -36,6 +36,15 @@ class TxnResponseParser {
         else if (obj.containsKey("Service")) {
           response.addResult(ServiceParser.parseAgentInfo(obj.getJsonObject("Service")));
         }
+        else if (obj.containsKey("Node")) {
+          response.addResult(NodeParser.parse(obj.getJsonObject("Node")));
+        }
+        else if (obj.containsKey("Check")) {
+          response.addResult(CheckParser.parse(obj.getJsonObject("Check")));
+        }
+        else if (obj.containsKey("Session")) {
+          response.addResult(SessionParser.parse(obj.getJsonObject("Session")));
+        }
       });
     }
     if (json.getValue("Errors") instanceof JsonArray) {
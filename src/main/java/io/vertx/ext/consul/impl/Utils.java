@@ -15,6 +15,7 @@
  */
 package io.vertx.ext.consul.impl;
 
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.consul.CheckStatus;
@@ -73,6 +74,14 @@ public class Utils {
     }
   }
 
+  public static Buffer decode64Buffer(String src) {
+    if (src == null || src.isEmpty()) {
+      return Buffer.buffer();
+    } else {
+      return Buffer.buffer(Base64.getDecoder().decode(src));
+    }
+  }
+
   public static <T> List<T> listOf(List<T> list) {
     if (list == null) {
       return null;
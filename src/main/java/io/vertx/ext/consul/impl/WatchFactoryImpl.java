@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul.impl;
+
+import io.vertx.core.Vertx;
+import io.vertx.ext.consul.*;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+public class WatchFactoryImpl implements WatchFactory {
+
+  private final Vertx vertx;
+  private final ConsulClientOptions options;
+  private final String optionsKey;
+
+  public WatchFactoryImpl(Vertx vertx, ConsulClientOptions options) {
+    this.vertx = Objects.requireNonNull(vertx);
+    this.options = new ConsulClientOptions(Objects.requireNonNull(options));
+    this.optionsKey = this.options.toJson().encode();
+  }
+
+  private ConsulClient client() {
+    return ConsulClient.createShared(vertx, options);
+  }
+
+  private <T> Watch<T> watch(String target, Supplier<WatchImpl<T>> factory) {
+    return WatchRegistry.watch(vertx, optionsKey + '|' + target, factory);
+  }
+
+  private static CheckQueryOptions copy(CheckQueryOptions opt) {
+    return opt == null ? new CheckQueryOptions() : new CheckQueryOptions(opt.toJson());
+  }
+
+  @Override
+  public Watch<KeyValue> key(String key) {
+    return watch("key|" + key, () -> new WatchImpl.Key(key, vertx, client(), options));
+  }
+
+  @Override
+  public Watch<KeyValueList> keyPrefix(String keyPrefix) {
+    return watch("keyPrefix|" + keyPrefix, () -> new WatchImpl.KeyPrefix(keyPrefix, vertx, client(), options));
+  }
+
+  @Override
+  public Watch<KeyValueDiff> keyPrefixDiff(String keyPrefix) {
+    return watch("keyPrefixDiff|" + keyPrefix, () -> new WatchImpl.KeyPrefixDiff(keyPrefix, vertx, client(), options));
+  }
+
+  /**
+   * Like {@link #keyPrefixDiff(String)}, but also delivers empty diffs when only the index of the prefix advances,
+   * for consumers tracking the index
+   */
+  Watch<KeyValueDiff> keyPrefixIndex(String keyPrefix) {
+    return watch("keyPrefixIndex|" + keyPrefix, () ->
+      new WatchImpl.KeyPrefixDiff(keyPrefix, vertx, client(), options).setIndexAdvances(true));
+  }
+
+  @Override
+  public Watch<ServiceList> services() {
+    return watch("services", () -> new WatchImpl.Services(vertx, client(), options));
+  }
+
+  @Override
+  public Watch<ServiceEntryList> service(String service) {
+    return watch("service|" + service, () -> new WatchImpl.Service(service, vertx, client(), options));
+  }
+
+  @Override
+  public Watch<ServiceEntryChangeList> serviceChanges(String service) {
+    return watch("serviceChanges|" + service, () -> new WatchImpl.ServiceChanges(service, vertx, client(), options));
+  }
+
+  @Override
+  public Watch<EventList> events(String event) {
+    return watch("events|" + event, () -> new WatchImpl.Events(event, vertx, client(), options));
+  }
+
+  @Override
+  public Watch<EventList> newEvents(String event, long lTime) {
+    return watch("newEvents|" + event + '|' + lTime, () -> new WatchImpl.NewEvents(event, lTime, vertx, client(), options));
+  }
+
+  @Override
+  public Watch<NodeList> nodes() {
+    return watch("nodes", () -> new WatchImpl.Nodes(vertx, client(), options));
+  }
+
+  @Override
+  public Watch<CoordinateList> coordinates() {
+    return watch("coordinates", () -> new WatchImpl.Coordinates(vertx, client(), options));
+  }
+
+  @Override
+  public Watch<CheckList> nodeHealthChecks(String node, CheckQueryOptions opt) {
+    CheckQueryOptions query = copy(opt);
+    return watch("nodeHealthChecks|" + node + '|' + query.toJson().encode(), () ->
+      new WatchImpl.NodeHealthCheck(node, query, vertx, client(), options));
+  }
+
+  @Override
+  public Watch<CheckList> serviceHealthChecks(String service, CheckQueryOptions checkQueryOptions) {
+    CheckQueryOptions query = copy(checkQueryOptions);
+    return watch("serviceHealthChecks|" + service + '|' + query.toJson().encode(), () ->
+      new WatchImpl.ServiceHealthCheck(service, query, vertx, client(), options));
+  }
+}
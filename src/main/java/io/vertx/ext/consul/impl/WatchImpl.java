@@ -20,7 +20,7 @@ import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.ext.consul.*;
 
-import java.util.Objects;
+import java.util.*;
 import java.util.concurrent.TimeoutException;
 
 /**
@@ -37,7 +37,11 @@ public abstract class WatchImpl<T> implements Watch<T> {
     private final String timeout;
 
     public Key(String key, Vertx vertx, ConsulClientOptions options) {
-      super(vertx, ConsulClient.create(vertx, options));
+      this(key, vertx, ConsulClient.create(vertx, options), options);
+    }
+
+    public Key(String key, Vertx vertx, ConsulClient consulClient, ConsulClientOptions options) {
+      super(vertx, consulClient);
       this.key = key;
       if (options.getTimeout() > 0) {
         this.timeout = options.getTimeout() + "ms";
@@ -48,7 +52,7 @@ public abstract class WatchImpl<T> implements Watch<T> {
     void wait(long index, Handler<AsyncResult<State<KeyValue>>> handler) {
       BlockingQueryOptions options = new BlockingQueryOptions().setWait(timeout).setIndex(index);
       consulClient.getValueWithOptions(key, options).onComplete(h ->
-        handler.handle(h.map(kv -> new State<>(kv, kv.getModifyIndex()))));
+        handler.handle(h.map(kv -> new State<>(kv, kv.getModifyIndex(), kv))));
     }
   }
 
@@ -58,7 +62,11 @@ public abstract class WatchImpl<T> implements Watch<T> {
     private final String timeout;
 
     public KeyPrefix(String keyPrefix, Vertx vertx, ConsulClientOptions options) {
-      super(vertx, ConsulClient.create(vertx, options));
+      this(keyPrefix, vertx, ConsulClient.create(vertx, options), options);
+    }
+
+    public KeyPrefix(String keyPrefix, Vertx vertx, ConsulClient consulClient, ConsulClientOptions options) {
+      super(vertx, consulClient);
       this.keyPrefix = keyPrefix;
       if (options.getTimeout() > 0) {
         this.timeout = options.getTimeout() + "ms";
@@ -69,7 +77,118 @@ public abstract class WatchImpl<T> implements Watch<T> {
     protected void wait(long index, Handler<AsyncResult<State<KeyValueList>>> handler) {
       BlockingQueryOptions options = new BlockingQueryOptions().setWait(timeout).setIndex(index);
       consulClient.getValuesWithOptions(keyPrefix, options).onComplete(h ->
-        handler.handle(h.map(kv -> new State<>(kv, kv.getIndex()))));
+        handler.handle(h.map(kv -> new State<>(kv, kv.getIndex(), kv.getList()))));
+    }
+  }
+
+  public static class KeyPrefixDiff extends WatchImpl<KeyValueDiff> {
+
+    private final String keyPrefix;
+    private final String timeout;
+    private boolean indexAdvances;
+    // the content as of the last two delivered diffs, the one being dispatched and the one before it
+    private volatile Delivered previous = new Delivered(null, PersistentTreeMap.empty());
+    private volatile Delivered latest = previous;
+
+    public KeyPrefixDiff(String keyPrefix, Vertx vertx, ConsulClientOptions options) {
+      this(keyPrefix, vertx, ConsulClient.create(vertx, options), options);
+    }
+
+    public KeyPrefixDiff(String keyPrefix, Vertx vertx, ConsulClient consulClient, ConsulClientOptions options) {
+      super(vertx, consulClient);
+      this.keyPrefix = keyPrefix;
+      if (options.getTimeout() > 0) {
+        this.timeout = options.getTimeout() + "ms";
+      } else this.timeout = BLOCKING_WAIT;
+    }
+
+    /**
+     * Also deliver empty diffs when the index advances without any change of the keys under the prefix,
+     * for consumers tracking the index of the prefix.
+     */
+    KeyPrefixDiff setIndexAdvances(boolean indexAdvances) {
+      this.indexAdvances = indexAdvances;
+      return this;
+    }
+
+    @Override
+    void wait(long index, Handler<AsyncResult<State<KeyValueDiff>>> handler) {
+      BlockingQueryOptions options = new BlockingQueryOptions().setWait(timeout).setIndex(index);
+      consulClient.getValuesWithOptions(keyPrefix, options).onComplete(h -> handler.handle(h.map(this::diff)));
+    }
+
+    @Override
+    boolean changed(State<KeyValueDiff> prev, State<KeyValueDiff> next) {
+      // the diff decides on its delivery when it is computed
+      return next.value == latest.diff;
+    }
+
+    @Override
+    KeyValueDiff snapshot(KeyValueDiff value) {
+      // read in the reverse order of the writes, the value is always one of the two last delivered diffs
+      Delivered delivered = latest;
+      if (delivered.diff != value) {
+        delivered = previous;
+      }
+      List<KeyValue> all = new ArrayList<>(delivered.content.size());
+      delivered.content.forEach((k, kv) -> all.add(kv));
+      return new KeyValueDiff().setIndex(value.getIndex()).setAdded(all);
+    }
+
+    private State<KeyValueDiff> diff(KeyValueList list) {
+      List<KeyValue> added = new ArrayList<>();
+      List<KeyValue> modified = new ArrayList<>();
+      List<KeyValue> removed = new ArrayList<>();
+      List<KeyValue> entries = list.getList() == null ? Collections.emptyList() : list.getList();
+      // the content of the latest delivered diff is the only state, the listing is compared with it
+      PersistentTreeMap<String, KeyValue> known = latest.content;
+      PersistentTreeMap<String, KeyValue> content = known;
+      for (KeyValue kv : entries) {
+        KeyValue prev = known.get(kv.getKey());
+        if (prev == null) {
+          added.add(kv);
+          content = content.put(kv.getKey(), kv);
+        } else if (prev.getModifyIndex() != kv.getModifyIndex()) {
+          modified.add(kv);
+          content = content.put(kv.getKey(), kv);
+        }
+      }
+      if (known.size() != entries.size() - added.size()) {
+        Set<String> listed = new HashSet<>(entries.size() * 2);
+        for (KeyValue kv : entries) {
+          listed.add(kv.getKey());
+        }
+        known.forEach((key, kv) -> {
+          if (!listed.contains(key)) {
+            removed.add(kv);
+          }
+        });
+        for (KeyValue kv : removed) {
+          content = content.remove(kv.getKey());
+        }
+      }
+      KeyValueDiff diff = new KeyValueDiff()
+        .setIndex(list.getIndex())
+        .setAdded(added)
+        .setModified(modified)
+        .setRemoved(removed);
+      boolean deliver = latest.diff == null || !diff.isEmpty()
+        || indexAdvances && list.getIndex() != latest.diff.getIndex();
+      if (deliver) {
+        previous = latest;
+        latest = new Delivered(diff, content);
+      }
+      return new State<>(diff, list.getIndex());
+    }
+
+    private static class Delivered {
+      private final KeyValueDiff diff;
+      private final PersistentTreeMap<String, KeyValue> content;
+
+      private Delivered(KeyValueDiff diff, PersistentTreeMap<String, KeyValue> content) {
+        this.diff = diff;
+        this.content = content;
+      }
     }
   }
 
@@ -78,7 +197,11 @@ public abstract class WatchImpl<T> implements Watch<T> {
     private final String timeout;
 
     public Services(Vertx vertx, ConsulClientOptions options) {
-      super(vertx, ConsulClient.create(vertx, options));
+      this(vertx, ConsulClient.create(vertx, options), options);
+    }
+
+    public Services(Vertx vertx, ConsulClient consulClient, ConsulClientOptions options) {
+      super(vertx, consulClient);
       if (options.getTimeout() > 0) {
         this.timeout = options.getTimeout() + "ms";
       } else this.timeout = BLOCKING_WAIT;
@@ -88,7 +211,7 @@ public abstract class WatchImpl<T> implements Watch<T> {
     void wait(long index, Handler<AsyncResult<State<ServiceList>>> handler) {
       BlockingQueryOptions options = new BlockingQueryOptions().setWait(timeout).setIndex(index);
       consulClient.catalogServicesWithOptions(options).onComplete(h ->
-        handler.handle(h.map(services -> new State<>(services, services.getIndex()))));
+        handler.handle(h.map(services -> new State<>(services, services.getIndex(), services.getList()))));
     }
   }
 
@@ -98,7 +221,11 @@ public abstract class WatchImpl<T> implements Watch<T> {
     private String timeout = BLOCKING_WAIT;
 
     public Service(String service, Vertx vertx, ConsulClientOptions options) {
-      super(vertx, ConsulClient.create(vertx, options));
+      this(service, vertx, ConsulClient.create(vertx, options), options);
+    }
+
+    public Service(String service, Vertx vertx, ConsulClient consulClient, ConsulClientOptions options) {
+      super(vertx, consulClient);
       this.service = service;
       if (options.getTimeout() > 0) {
         this.timeout = options.getTimeout() + "ms";
@@ -110,7 +237,126 @@ public abstract class WatchImpl<T> implements Watch<T> {
       BlockingQueryOptions bOpts = new BlockingQueryOptions().setWait(timeout).setIndex(index);
       ServiceQueryOptions sOpts = new ServiceQueryOptions().setNear("_agent").setBlockingOptions(bOpts);
       consulClient.healthServiceNodesWithOptions(service, false, sOpts).onComplete(h ->
-        handler.handle(h.map(services -> new State<>(services, services.getIndex()))));
+        handler.handle(h.map(services -> new State<>(services, services.getIndex(), services.getList()))));
+    }
+  }
+
+  public static class ServiceChanges extends WatchImpl<ServiceEntryChangeList> {
+
+    private final String service;
+    private final String timeout;
+    // the instances as of the last two delivered change lists, the one being dispatched and the one before it
+    private volatile Delivered previous = new Delivered(null, PersistentTreeMap.empty());
+    private volatile Delivered latest = previous;
+
+    public ServiceChanges(String service, Vertx vertx, ConsulClientOptions options) {
+      this(service, vertx, ConsulClient.create(vertx, options), options);
+    }
+
+    public ServiceChanges(String service, Vertx vertx, ConsulClient consulClient, ConsulClientOptions options) {
+      super(vertx, consulClient);
+      this.service = service;
+      if (options.getTimeout() > 0) {
+        this.timeout = options.getTimeout() + "ms";
+      } else this.timeout = BLOCKING_WAIT;
+    }
+
+    @Override
+    void wait(long index, Handler<AsyncResult<State<ServiceEntryChangeList>>> handler) {
+      BlockingQueryOptions bOpts = new BlockingQueryOptions().setWait(timeout).setIndex(index);
+      ServiceQueryOptions sOpts = new ServiceQueryOptions().setBlockingOptions(bOpts);
+      consulClient.healthServiceNodesWithOptions(service, false, sOpts).onComplete(h -> handler.handle(h.map(this::diff)));
+    }
+
+    @Override
+    boolean changed(State<ServiceEntryChangeList> prev, State<ServiceEntryChangeList> next) {
+      return !next.value.isEmpty();
+    }
+
+    @Override
+    ServiceEntryChangeList snapshot(ServiceEntryChangeList value) {
+      // read in the reverse order of the writes, the value is always one of the two last delivered change lists
+      Delivered delivered = latest;
+      if (delivered.changes != value) {
+        delivered = previous;
+      }
+      List<ServiceEntryChange> all = new ArrayList<>(delivered.instances.size());
+      delivered.instances.forEach((id, change) -> all.add(change));
+      return new ServiceEntryChangeList().setIndex(value.getIndex()).setList(all);
+    }
+
+    private State<ServiceEntryChangeList> diff(ServiceEntryList list) {
+      List<ServiceEntryChange> changes = new ArrayList<>();
+      List<ServiceEntry> entries = list.getList() == null ? Collections.emptyList() : list.getList();
+      // the instances of the latest delivered change list are the only state, the listing is compared with them
+      PersistentTreeMap<String, ServiceEntryChange> known = latest.instances;
+      PersistentTreeMap<String, ServiceEntryChange> instances = known;
+      int added = 0;
+      for (ServiceEntry entry : entries) {
+        String id = id(entry);
+        CheckStatus status = entry.getChecks() == null ? CheckStatus.PASSING : entry.aggregatedStatus();
+        ServiceEntryChange prev = known.get(id);
+        if (prev == null) {
+          added++;
+          changes.add(change(ServiceEntryChangeType.ADDED, entry, status));
+          instances = instances.put(id, change(ServiceEntryChangeType.ADDED, entry, status));
+        } else {
+          boolean updated = !Objects.equals(prev.getEntry().getService(), entry.getService())
+            || !Objects.equals(prev.getEntry().getNode(), entry.getNode());
+          if (updated || prev.getStatus() != status) {
+            changes.add(change(updated ? ServiceEntryChangeType.UPDATED : ServiceEntryChangeType.STATUS_CHANGED, entry, status));
+            instances = instances.put(id, change(ServiceEntryChangeType.ADDED, entry, status));
+          } else if (!Objects.equals(prev.getEntry().getChecks(), entry.getChecks())) {
+            // keep the latest checks even if they don't change the aggregated status
+            instances = instances.put(id, change(ServiceEntryChangeType.ADDED, entry, status));
+          }
+        }
+      }
+      if (known.size() != entries.size() - added) {
+        Set<String> listed = new HashSet<>(entries.size() * 2);
+        for (ServiceEntry entry : entries) {
+          listed.add(id(entry));
+        }
+        List<String> removed = new ArrayList<>();
+        known.forEach((id, instance) -> {
+          if (!listed.contains(id)) {
+            removed.add(id);
+            changes.add(change(ServiceEntryChangeType.REMOVED, instance.getEntry(), instance.getStatus()));
+          }
+        });
+        for (String id : removed) {
+          instances = instances.remove(id);
+        }
+      }
+      ServiceEntryChangeList changeList = new ServiceEntryChangeList()
+        .setIndex(list.getIndex())
+        .setList(changes);
+      if (latest.changes == null || !changes.isEmpty()) {
+        previous = latest;
+        latest = new Delivered(changeList, instances);
+      } else if (instances != known) {
+        // only the checks are refreshed, the change list being dispatched stays the same
+        latest = new Delivered(latest.changes, instances);
+      }
+      return new State<>(changeList, list.getIndex());
+    }
+
+    private static String id(ServiceEntry entry) {
+      return entry.getNode().getName() + '/' + entry.getService().getId();
+    }
+
+    private static ServiceEntryChange change(ServiceEntryChangeType type, ServiceEntry entry, CheckStatus status) {
+      return new ServiceEntryChange().setType(type).setEntry(entry).setStatus(status);
+    }
+
+    private static class Delivered {
+      private final ServiceEntryChangeList changes;
+      private final PersistentTreeMap<String, ServiceEntryChange> instances;
+
+      private Delivered(ServiceEntryChangeList changes, PersistentTreeMap<String, ServiceEntryChange> instances) {
+        this.changes = changes;
+        this.instances = instances;
+      }
     }
   }
 
@@ -120,7 +366,11 @@ public abstract class WatchImpl<T> implements Watch<T> {
     private final String timeout;
 
     public Events(String event, Vertx vertx, ConsulClientOptions options) {
-      super(vertx, ConsulClient.create(vertx, options));
+      this(event, vertx, ConsulClient.create(vertx, options), options);
+    }
+
+    public Events(String event, Vertx vertx, ConsulClient consulClient, ConsulClientOptions options) {
+      super(vertx, consulClient);
       this.event = event;
       if (options.getTimeout() > 0) {
         this.timeout = options.getTimeout() + "ms";
@@ -132,7 +382,68 @@ public abstract class WatchImpl<T> implements Watch<T> {
       BlockingQueryOptions bOpts = new BlockingQueryOptions().setWait(timeout).setIndex(index);
       EventListOptions eOpts = new EventListOptions().setBlockingOptions(bOpts).setName(event);
       consulClient.listEventsWithOptions(eOpts).onComplete(h ->
-        handler.handle(h.map(events -> new State<>(events, events.getIndex()))));
+        handler.handle(h.map(events -> new State<>(events, events.getIndex(), events.getList()))));
+    }
+  }
+
+  public static class NewEvents extends WatchImpl<EventList> {
+
+    // the agent keeps the last 256 events, remembering twice as many IDs is enough to never see an event twice
+    private static final int SEEN_LIMIT = 512;
+
+    private final String event;
+    private final String timeout;
+    private final Set<String> seen = Collections.newSetFromMap(new LinkedHashMap<String, Boolean>() {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+        return size() > SEEN_LIMIT;
+      }
+    });
+    private final long cursor;
+
+    public NewEvents(String event, long lTime, Vertx vertx, ConsulClientOptions options) {
+      this(event, lTime, vertx, ConsulClient.create(vertx, options), options);
+    }
+
+    public NewEvents(String event, long lTime, Vertx vertx, ConsulClient consulClient, ConsulClientOptions options) {
+      super(vertx, consulClient);
+      this.event = event;
+      this.cursor = lTime;
+      if (options.getTimeout() > 0) {
+        this.timeout = options.getTimeout() + "ms";
+      } else this.timeout = BLOCKING_WAIT;
+    }
+
+    @Override
+    void wait(long index, Handler<AsyncResult<State<EventList>>> handler) {
+      BlockingQueryOptions bOpts = new BlockingQueryOptions().setWait(timeout).setIndex(index);
+      EventListOptions eOpts = new EventListOptions().setBlockingOptions(bOpts).setName(event);
+      consulClient.listEventsWithOptions(eOpts).onComplete(h -> handler.handle(h.map(this::unseen)));
+    }
+
+    @Override
+    boolean changed(State<EventList> prev, State<EventList> next) {
+      return !next.value.getList().isEmpty();
+    }
+
+    @Override
+    EventList snapshot(EventList value) {
+      // already delivered events are not replayed to late subscribers
+      return new EventList().setIndex(value.getIndex()).setList(Collections.emptyList());
+    }
+
+    private State<EventList> unseen(EventList events) {
+      List<Event> fresh = new ArrayList<>();
+      if (events.getList() != null) {
+        for (Event ev : events.getList()) {
+          if (ev.getLTime() > cursor && seen.add(ev.getId())) {
+            fresh.add(ev);
+          }
+        }
+      }
+      fresh.sort(Comparator.comparingInt(Event::getLTime));
+      EventList list = new EventList().setIndex(events.getIndex()).setList(fresh);
+      return new State<>(list, events.getIndex());
     }
   }
 
@@ -140,7 +451,11 @@ public abstract class WatchImpl<T> implements Watch<T> {
     private final String timeout;
 
     public Nodes(Vertx vertx, ConsulClientOptions options) {
-      super(vertx, ConsulClient.create(vertx, options));
+      this(vertx, ConsulClient.create(vertx, options), options);
+    }
+
+    public Nodes(Vertx vertx, ConsulClient consulClient, ConsulClientOptions options) {
+      super(vertx, consulClient);
       if (options.getTimeout() > 0) {
         this.timeout = options.getTimeout() + "ms";
       } else this.timeout = BLOCKING_WAIT;
@@ -151,7 +466,29 @@ public abstract class WatchImpl<T> implements Watch<T> {
       BlockingQueryOptions bOpts = new BlockingQueryOptions().setWait(timeout).setIndex(index);
       NodeQueryOptions qOpts = new NodeQueryOptions().setBlockingOptions(bOpts);
       consulClient.catalogNodesWithOptions(qOpts).onComplete(h ->
-        handler.handle(h.map(nodes -> new State<>(nodes, nodes.getIndex()))));
+        handler.handle(h.map(nodes -> new State<>(nodes, nodes.getIndex(), nodes.getList()))));
+    }
+  }
+
+  public static class Coordinates extends WatchImpl<CoordinateList> {
+    private final String timeout;
+
+    public Coordinates(Vertx vertx, ConsulClientOptions options) {
+      this(vertx, ConsulClient.create(vertx, options), options);
+    }
+
+    public Coordinates(Vertx vertx, ConsulClient consulClient, ConsulClientOptions options) {
+      super(vertx, consulClient);
+      if (options.getTimeout() > 0) {
+        this.timeout = options.getTimeout() + "ms";
+      } else this.timeout = BLOCKING_WAIT;
+    }
+
+    @Override
+    void wait(long index, Handler<AsyncResult<State<CoordinateList>>> handler) {
+      BlockingQueryOptions bOpts = new BlockingQueryOptions().setWait(timeout).setIndex(index);
+      consulClient.coordinateNodesWithOptions(bOpts).onComplete(h ->
+        handler.handle(h.map(coordinates -> new State<>(coordinates, coordinates.getIndex(), coordinates.getList()))));
     }
   }
 
@@ -161,7 +498,11 @@ public abstract class WatchImpl<T> implements Watch<T> {
     private final String timeout;
 
     public NodeHealthCheck(String node, CheckQueryOptions check, Vertx vertx, ConsulClientOptions options) {
-      super(vertx, ConsulClient.create(vertx, options));
+      this(node, check, vertx, ConsulClient.create(vertx, options), options);
+    }
+
+    public NodeHealthCheck(String node, CheckQueryOptions check, Vertx vertx, ConsulClient consulClient, ConsulClientOptions options) {
+      super(vertx, consulClient);
       if (options.getTimeout() > 0) {
         this.timeout = options.getTimeout() + "ms";
       } else this.timeout = BLOCKING_WAIT;
@@ -173,7 +514,7 @@ public abstract class WatchImpl<T> implements Watch<T> {
     void wait(long index, Handler<AsyncResult<State<CheckList>>> handler) {
       BlockingQueryOptions bOpts = new BlockingQueryOptions().setWait(timeout).setIndex(index);
       consulClient.healthNodesWithOptions(node, options.setBlockingOptions(bOpts)).onComplete(h ->
-        handler.handle(h.map(nodes -> new State<>(nodes, nodes.getIndex()))));
+        handler.handle(h.map(nodes -> new State<>(nodes, nodes.getIndex(), nodes.getList()))));
     }
   }
 
@@ -183,7 +524,11 @@ public abstract class WatchImpl<T> implements Watch<T> {
     private final String timeout;
 
     public ServiceHealthCheck(String service, CheckQueryOptions check, Vertx vertx, ConsulClientOptions options) {
-      super(vertx, ConsulClient.create(vertx, options));
+      this(service, check, vertx, ConsulClient.create(vertx, options), options);
+    }
+
+    public ServiceHealthCheck(String service, CheckQueryOptions check, Vertx vertx, ConsulClient consulClient, ConsulClientOptions options) {
+      super(vertx, consulClient);
       if (options.getTimeout() > 0) {
         this.timeout = options.getTimeout() + "ms";
       } else this.timeout = BLOCKING_WAIT;
@@ -195,7 +540,7 @@ public abstract class WatchImpl<T> implements Watch<T> {
     void wait(long index, Handler<AsyncResult<State<CheckList>>> handler) {
       BlockingQueryOptions bOpts = new BlockingQueryOptions().setWait(timeout).setIndex(index);
       consulClient.healthChecksWithOptions(serviceName, options.setBlockingOptions(bOpts)).onComplete(h ->
-        handler.handle(h.map(nodes -> new State<>(nodes, nodes.getIndex()))));
+        handler.handle(h.map(nodes -> new State<>(nodes, nodes.getIndex(), nodes.getList()))));
     }
   }
 
@@ -214,6 +559,21 @@ public abstract class WatchImpl<T> implements Watch<T> {
 
   abstract void wait(long index, Handler<AsyncResult<State<T>>> handler);
 
+  /**
+   * Whether the next state carries changes which should be delivered. Called only once a first state was delivered.
+   * The fingerprints only tell quickly that the content is changed, the content is compared when they are the same.
+   */
+  boolean changed(State<T> prev, State<T> next) {
+    return next.fingerprint != prev.fingerprint || !Objects.equals(prev.content, next.content);
+  }
+
+  /**
+   * The value delivered to a subscriber which joins an already running shared watch.
+   */
+  T snapshot(T value) {
+    return value;
+  }
+
   @Override
   public Watch<T> setHandler(Handler<WatchResult<T>> handler) {
     this.handler = handler;
@@ -245,9 +605,16 @@ public abstract class WatchImpl<T> implements Watch<T> {
 
   private void go() {
     fetch(0, newState -> {
-      if (newState.equals(current)) {
-        // avoid floods
-        vertx.setTimer(1000, l -> go());
+      if (current.value != null && !changed(current, newState)) {
+        // the content is the same, only the index could be changed
+        boolean sameIndex = newState.index == current.index;
+        current = newState;
+        if (sameIndex) {
+          // avoid floods
+          vertx.setTimer(1000, l -> go());
+        } else {
+          vertx.runOnContext(v -> go());
+        }
       } else {
         State<T> prevState = current;
         current = newState;
@@ -286,74 +653,109 @@ public abstract class WatchImpl<T> implements Watch<T> {
 
   private void sendSuccess(T prevValue, T nextValue) {
     if (!stopped && handler != null) {
-      handler.handle(new WatchResult<T>() {
-        @Override
-        public T prevResult() {
-          return prevValue;
-        }
+      handler.handle(success(prevValue, nextValue));
+    }
+  }
 
-        @Override
-        public T nextResult() {
-          return nextValue;
-        }
+  private void sendFail(T prevValue, Throwable cause) {
+    if (!stopped && handler != null) {
+      handler.handle(failure(prevValue, cause));
+    }
+  }
 
-        @Override
-        public Throwable cause() {
-          return null;
-        }
+  static <T> WatchResult<T> success(T prevValue, T nextValue) {
+    return new WatchResult<T>() {
+      @Override
+      public T prevResult() {
+        return prevValue;
+      }
 
-        @Override
-        public boolean succeeded() {
-          return true;
-        }
+      @Override
+      public T nextResult() {
+        return nextValue;
+      }
 
-        @Override
-        public boolean failed() {
-          return false;
-        }
-      });
-    }
+      @Override
+      public Throwable cause() {
+        return null;
+      }
+
+      @Override
+      public boolean succeeded() {
+        return true;
+      }
+
+      @Override
+      public boolean failed() {
+        return false;
+      }
+    };
   }
 
-  private void sendFail(T prevValue, Throwable cause) {
-    if (!stopped && handler != null) {
-      handler.handle(new WatchResult<T>() {
-        @Override
-        public T prevResult() {
-          return prevValue;
-        }
+  static <T> WatchResult<T> failure(T prevValue, Throwable cause) {
+    return new WatchResult<T>() {
+      @Override
+      public T prevResult() {
+        return prevValue;
+      }
 
-        @Override
-        public T nextResult() {
-          return null;
-        }
+      @Override
+      public T nextResult() {
+        return null;
+      }
 
-        @Override
-        public Throwable cause() {
-          return cause;
-        }
+      @Override
+      public Throwable cause() {
+        return cause;
+      }
 
-        @Override
-        public boolean succeeded() {
-          return false;
-        }
+      @Override
+      public boolean succeeded() {
+        return false;
+      }
 
-        @Override
-        public boolean failed() {
-          return true;
-        }
-      });
-    }
+      @Override
+      public boolean failed() {
+        return true;
+      }
+    };
   }
 
   public static class State<T> {
 
     final T value;
     final long index;
+    final Object content;
+    final long fingerprint;
 
+    /**
+     * A state of a watch which decides on the delivery by itself, see {@link #changed(State, State)}
+     */
     State(T v, long i) {
       value = v;
       index = i;
+      content = null;
+      fingerprint = 0;
+    }
+
+    /**
+     * A state whose delivery depends on the change of the content, a single object
+     */
+    State(T v, long i, Object c) {
+      value = v;
+      index = i;
+      content = c;
+      fingerprint = Fingerprint.of(c);
+    }
+
+    /**
+     * A state whose delivery depends on the change of the content, a list compared in order
+     */
+    State(T v, long i, List<?> c) {
+      value = v;
+      index = i;
+      content = c;
+      fingerprint = Fingerprint.of(c);
     }
 
     @Override
@@ -361,12 +763,12 @@ public abstract class WatchImpl<T> implements Watch<T> {
       if (this == o) return true;
       if (o == null || getClass() != o.getClass()) return false;
       State<?> state = (State<?>) o;
-      return index == state.index && Objects.equals(value, state.value);
+      return index == state.index && fingerprint == state.fingerprint && Objects.equals(content, state.content);
     }
 
     @Override
     public int hashCode() {
-      int result = value != null ? value.hashCode() : 0;
+      int result = (int) (fingerprint ^ (fingerprint >>> 32));
       result = 31 * result + (int) (index ^ (index >>> 32));
       return result;
     }
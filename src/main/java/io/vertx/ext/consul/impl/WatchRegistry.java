@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul.impl;
+
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.shareddata.LocalMap;
+import io.vertx.core.shareddata.Shareable;
+import io.vertx.ext.consul.Watch;
+import io.vertx.ext.consul.WatchResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Merges identical watches into a single blocking query loop. Each subscriber gets a lightweight {@link Watch}
+ * which receives the results of the shared loop on its own context. The loop is started by the first subscriber
+ * and stopped when the last one is stopped. It runs in a verticle deployed by the registry, so that undeploying the
+ * verticle of any subscriber does not cancel the timers of the loop shared with the others.
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+class WatchRegistry {
+
+  private static final String LOCAL_MAP_NAME = "__vertx.ConsulClient.watches";
+  private static final Object LOCK = new Object();
+
+  static <T> Watch<T> watch(Vertx vertx, String key, Supplier<WatchImpl<T>> factory) {
+    return new Subscription<>(vertx, key, factory);
+  }
+
+  private static class SharedWatch<T> extends AbstractVerticle implements Shareable {
+
+    private final WatchImpl<T> watch;
+    private final List<Subscription<T>> subscriptions = new ArrayList<>();
+    private WatchResult<T> last;
+    private Future<String> deployment;
+
+    private SharedWatch(WatchImpl<T> watch) {
+      this.watch = watch;
+      watch.setHandler(this::dispatch);
+    }
+
+    @Override
+    public void start() {
+      watch.start();
+    }
+
+    @Override
+    public void stop() {
+      watch.stop();
+    }
+
+    private void deploy(Vertx vertx) {
+      deployment = vertx.deployVerticle(this);
+    }
+
+    private void undeploy(Vertx vertx) {
+      deployment.onSuccess(vertx::undeploy);
+    }
+
+    private void dispatch(WatchResult<T> result) {
+      List<Subscription<T>> copy;
+      synchronized (this) {
+        if (result.succeeded()) {
+          last = result;
+        }
+        copy = new ArrayList<>(subscriptions);
+      }
+      copy.forEach(s -> s.deliver(result));
+    }
+
+    private synchronized void subscribe(Subscription<T> subscription) {
+      subscriptions.add(subscription);
+      if (last != null) {
+        subscription.deliver(WatchImpl.success(null, watch.snapshot(last.nextResult())));
+      }
+    }
+
+    private synchronized boolean unsubscribe(Subscription<T> subscription) {
+      subscriptions.remove(subscription);
+      return subscriptions.isEmpty();
+    }
+  }
+
+  private static class Subscription<T> implements Watch<T> {
+
+    private final Vertx vertx;
+    private final String key;
+    private final Supplier<WatchImpl<T>> factory;
+    private volatile boolean started = false;
+    private volatile boolean stopped = false;
+    private volatile Handler<WatchResult<T>> handler;
+    private Context context;
+    private SharedWatch<T> shared;
+
+    private Subscription(Vertx vertx, String key, Supplier<WatchImpl<T>> factory) {
+      this.vertx = vertx;
+      this.key = key;
+      this.factory = factory;
+    }
+
+    @Override
+    public Watch<T> setHandler(Handler<WatchResult<T>> handler) {
+      this.handler = handler;
+      return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized Watch<T> start() {
+      if (started) {
+        throw new IllegalStateException("Watch already started");
+      }
+      started = true;
+      context = vertx.getOrCreateContext();
+      synchronized (LOCK) {
+        LocalMap<String, SharedWatch<?>> map = vertx.sharedData().getLocalMap(LOCAL_MAP_NAME);
+        shared = (SharedWatch<T>) map.get(key);
+        if (shared == null) {
+          shared = new SharedWatch<>(factory.get());
+          map.put(key, shared);
+          shared.subscribe(this);
+          shared.deploy(vertx);
+        } else {
+          shared.subscribe(this);
+        }
+      }
+      return this;
+    }
+
+    @Override
+    public synchronized void stop() {
+      if (!started) {
+        throw new IllegalStateException("An unstarted watch");
+      }
+      if (stopped) {
+        throw new IllegalStateException("Watch already stopped");
+      }
+      stopped = true;
+      synchronized (LOCK) {
+        if (shared.unsubscribe(this)) {
+          vertx.sharedData().getLocalMap(LOCAL_MAP_NAME).remove(key);
+          shared.undeploy(vertx);
+        }
+      }
+    }
+
+    private void deliver(WatchResult<T> result) {
+      context.runOnContext(v -> {
+        Handler<WatchResult<T>> h = handler;
+        if (!stopped && h != null) {
+          h.handle(result);
+        }
+      });
+    }
+  }
+}
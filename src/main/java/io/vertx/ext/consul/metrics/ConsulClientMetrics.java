@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul.metrics;
+
+import io.vertx.core.http.HttpMethod;
+
+/**
+ * An SPI used to instrument the requests of Consul client, see
+ * {@link io.vertx.ext.consul.ConsulClientOptions#setMetrics(ConsulClientMetrics)}.
+ * <p>
+ * The requests are identified by the endpoint template, e.g. {@code /v1/kv/{key}} or {@code /v1/health/service/{service}},
+ * so the number of distinct endpoints is bounded regardless of the keys and the names used by the application.
+ * The methods are called on the event loop of the request, the implementations must be thread safe and must not block.
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ * @see DefaultConsulClientMetrics
+ */
+public interface ConsulClientMetrics {
+
+  /**
+   * Called when the request is sent.
+   *
+   * @param endpoint the endpoint template
+   * @param method   the HTTP method
+   * @param blocking {@code true} if the request is a blocking query
+   */
+  void requestBegin(String endpoint, HttpMethod method, boolean blocking);
+
+  /**
+   * Called when the response is received or the request is failed.
+   *
+   * @param endpoint     the endpoint template
+   * @param method       the HTTP method
+   * @param blocking     {@code true} if the request is a blocking query
+   * @param statusCode   the HTTP status code of the response, or {@code 0} if the request was failed without a response
+   * @param latencyNanos the time elapsed since the request was sent, in nanoseconds
+   * @param responseSize the size of the response body in bytes
+   */
+  void requestEnd(String endpoint, HttpMethod method, boolean blocking, int statusCode, long latencyNanos, long responseSize);
+
+  /**
+   * Called when an optimistic update of the KV store is completed, see
+   * {@link io.vertx.ext.consul.ConsulClient#updateValueWithOptions}.
+   *
+   * @param attempts  the number of read-modify-write attempts, including the last one
+   * @param conflicts the number of attempts which lost the race with a concurrent write
+   * @param succeeded {@code true} if the update was committed or skipped by the update function
+   */
+  default void updateEnd(int attempts, int conflicts, boolean succeeded) {
+  }
+}
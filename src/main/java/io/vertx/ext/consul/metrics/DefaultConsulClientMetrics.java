@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul.metrics;
+
+import io.vertx.core.http.HttpMethod;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The default {@link ConsulClientMetrics} implementation which keeps lock free counters and a latency histogram
+ * per endpoint template and HTTP method. The latencies of blocking queries are not recorded in the histograms,
+ * as they mostly measure the time the server waited for a change.
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+public class DefaultConsulClientMetrics implements ConsulClientMetrics {
+
+  private final ConcurrentMap<String, ConcurrentMap<HttpMethod, EndpointMetrics>> endpoints = new ConcurrentHashMap<>();
+  private final LongAdder updates = new LongAdder();
+  private final LongAdder updateRetries = new LongAdder();
+  private final LongAdder updateConflicts = new LongAdder();
+  private final LongAdder failedUpdates = new LongAdder();
+
+  @Override
+  public void requestBegin(String endpoint, HttpMethod method, boolean blocking) {
+    metrics(endpoint, method).inFlight.incrementAndGet();
+  }
+
+  @Override
+  public void requestEnd(String endpoint, HttpMethod method, boolean blocking, int statusCode, long latencyNanos, long responseSize) {
+    EndpointMetrics metrics = metrics(endpoint, method);
+    metrics.inFlight.decrementAndGet();
+    metrics.requests.increment();
+    if (blocking) {
+      metrics.blockingRequests.increment();
+    } else {
+      metrics.latency.record(latencyNanos, TimeUnit.NANOSECONDS);
+    }
+    if (statusCode == 0 || statusCode >= 500) {
+      metrics.errors.increment();
+    }
+    metrics.bytes.add(responseSize);
+  }
+
+  @Override
+  public void updateEnd(int attempts, int conflicts, boolean succeeded) {
+    updates.increment();
+    updateRetries.add(attempts - 1);
+    updateConflicts.add(conflicts);
+    if (!succeeded) {
+      failedUpdates.increment();
+    }
+  }
+
+  /**
+   * @return the number of completed optimistic updates, including the failed ones
+   */
+  public long updates() {
+    return updates.sum();
+  }
+
+  /**
+   * @return the number of read-modify-write attempts of the optimistic updates after the first one
+   */
+  public long updateRetries() {
+    return updateRetries.sum();
+  }
+
+  /**
+   * @return the number of read-modify-write attempts which lost the race with a concurrent write
+   */
+  public long updateConflicts() {
+    return updateConflicts.sum();
+  }
+
+  /**
+   * @return the number of failed optimistic updates
+   */
+  public long failedUpdates() {
+    return failedUpdates.sum();
+  }
+
+  /**
+   * Get the metrics of the endpoint.
+   *
+   * @param endpoint the endpoint template
+   * @param method   the HTTP method
+   * @return the metrics, or {@code null} if the endpoint was not requested
+   */
+  public EndpointMetrics get(String endpoint, HttpMethod method) {
+    Map<HttpMethod, EndpointMetrics> byMethod = endpoints.get(endpoint);
+    return byMethod == null ? null : byMethod.get(method);
+  }
+
+  /**
+   * Visit the metrics of all the requested endpoints.
+   *
+   * @param consumer the consumer of the endpoint template, the HTTP method and the metrics
+   */
+  public void forEach(EndpointConsumer consumer) {
+    endpoints.forEach((endpoint, byMethod) -> byMethod.forEach((method, metrics) -> consumer.accept(endpoint, method, metrics)));
+  }
+
+  private EndpointMetrics metrics(String endpoint, HttpMethod method) {
+    ConcurrentMap<HttpMethod, EndpointMetrics> byMethod = endpoints.get(endpoint);
+    if (byMethod == null) {
+      byMethod = endpoints.computeIfAbsent(endpoint, k -> new ConcurrentHashMap<>());
+    }
+    EndpointMetrics metrics = byMethod.get(method);
+    if (metrics == null) {
+      metrics = byMethod.computeIfAbsent(method, k -> new EndpointMetrics());
+    }
+    return metrics;
+  }
+
+  /**
+   * Consumer of the endpoint metrics
+   */
+  @FunctionalInterface
+  public interface EndpointConsumer {
+
+    /**
+     * @param endpoint the endpoint template
+     * @param method   the HTTP method
+     * @param metrics  the metrics
+     */
+    void accept(String endpoint, HttpMethod method, EndpointMetrics metrics);
+  }
+
+  /**
+   * The metrics of a single endpoint and HTTP method
+   */
+  public static class EndpointMetrics {
+
+    private final AtomicLong inFlight = new AtomicLong();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder blockingRequests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    /**
+     * @return the number of requests which are sent and not completed yet
+     */
+    public long inFlight() {
+      return inFlight.get();
+    }
+
+    /**
+     * @return the number of completed requests, including the failed ones and the blocking queries
+     */
+    public long requests() {
+      return requests.sum();
+    }
+
+    /**
+     * @return the number of completed blocking queries
+     */
+    public long blockingRequests() {
+      return blockingRequests.sum();
+    }
+
+    /**
+     * @return the number of requests failed without a response or with a server error status code
+     */
+    public long errors() {
+      return errors.sum();
+    }
+
+    /**
+     * @return the total size of the response bodies in bytes
+     */
+    public long bytes() {
+      return bytes.sum();
+    }
+
+    /**
+     * @return the latency histogram of the requests which are not blocking queries
+     */
+    public LatencyHistogram latency() {
+      return latency;
+    }
+  }
+}
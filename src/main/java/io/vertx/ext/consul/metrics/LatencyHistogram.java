@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock free latency histogram with logarithmic buckets, each power of two is split into 32 linear sub-buckets,
+ * so the recorded values are kept with a relative error below 3.2%, like the HDR histogram with 2 significant digits.
+ * The latencies are recorded in microseconds, up to about 38 hours; the longer latencies are recorded as the maximum.
+ * The histogram takes about 9 KB of memory and recording a value does not allocate.
+ *
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+public class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int MAX_EXPONENT = 37;
+  private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+  private static final int BUCKETS = SUB_BUCKETS + (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+  private final AtomicLong max = new AtomicLong();
+
+  /**
+   * Record the latency.
+   *
+   * @param latency the latency
+   * @param unit    the time unit of the latency
+   */
+  public void record(long latency, TimeUnit unit) {
+    long value = Math.min(Math.max(unit.toMicros(latency), 0), MAX_VALUE);
+    counts.incrementAndGet(index(value));
+    count.increment();
+    sum.add(value);
+    if (value > max.get()) {
+      max.accumulateAndGet(value, Math::max);
+    }
+  }
+
+  /**
+   * @return the number of recorded latencies
+   */
+  public long count() {
+    return count.sum();
+  }
+
+  /**
+   * @return the maximum recorded latency in microseconds
+   */
+  public long max() {
+    return max.get();
+  }
+
+  /**
+   * @return the mean of the recorded latencies in microseconds
+   */
+  public double mean() {
+    long n = count.sum();
+    return n == 0 ? 0 : (double) sum.sum() / n;
+  }
+
+  /**
+   * Get the latency at the percentile, i.e. the latency which is greater than or equal to the given percentage
+   * of the recorded latencies. The result is the highest value equivalent to the bucket holding the percentile.
+   *
+   * @param percentile the percentile, from {@code 0} to {@code 100}
+   * @return the latency in microseconds, or {@code 0} if no latency was recorded
+   */
+  public long valueAtPercentile(double percentile) {
+    long total = 0;
+    long[] snapshot = new long[BUCKETS];
+    for (int i = 0; i < BUCKETS; i++) {
+      snapshot[i] = counts.get(i);
+      total += snapshot[i];
+    }
+    if (total == 0) {
+      return 0;
+    }
+    long target = Math.max(1, (long) Math.ceil(Math.min(percentile, 100) / 100 * total));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += snapshot[i];
+      if (seen >= target) {
+        return Math.min(highestEquivalentValue(i), max.get());
+      }
+    }
+    return max.get();
+  }
+
+  static int index(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    return SUB_BUCKETS + shift * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+  }
+
+  static long lowestEquivalentValue(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+    int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+    int sub = (index - SUB_BUCKETS) % SUB_BUCKETS;
+    return (long) (SUB_BUCKETS + sub) << shift;
+  }
+
+  static long highestEquivalentValue(int index) {
+    return index + 1 == BUCKETS ? MAX_VALUE : lowestEquivalentValue(index + 1) - 1;
+  }
+}
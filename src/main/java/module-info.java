@@ -10,6 +10,7 @@ module io.vertx.consul.client {
 
   exports io.vertx.ext.consul;
   exports io.vertx.ext.consul.connect;
+  exports io.vertx.ext.consul.metrics;
   exports io.vertx.ext.consul.policy;
   exports io.vertx.ext.consul.token;
 
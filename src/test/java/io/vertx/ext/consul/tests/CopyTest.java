@@ -19,12 +19,14 @@ import io.vertx.ext.consul.*;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static io.vertx.ext.consul.tests.RandomObjects.*;
 import static io.vertx.test.core.TestUtils.randomLong;
 import static io.vertx.test.core.TestUtils.randomPositiveInt;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -58,6 +60,7 @@ public class CopyTest {
     assertEquals(expected.hashCode(), actual.hashCode());
     assertEquals(expected.getKey(), actual.getKey());
     assertEquals(expected.getValue(), actual.getValue());
+    assertEquals(expected.getRawValue(), actual.getRawValue());
     assertEquals(expected.getSession(), actual.getSession());
     assertEquals(expected.getCreateIndex(), actual.getCreateIndex());
     assertEquals(expected.getFlags(), actual.getFlags());
@@ -72,9 +75,16 @@ public class CopyTest {
     list.add(randomKeyValue());
     KeyValueList kvList = new KeyValueList()
       .setList(list)
-      .setIndex(randomLong());
+      .setIndex(randomLong())
+      .setMeta(new QueryMeta().setLastContact(randomLong()).setKnownLeader(true).setCacheHit(true).setCacheAge(randomLong()));
     checkKeyValueList(kvList, new KeyValueList(kvList));
     checkKeyValueList(kvList, new KeyValueList(kvList.toJson()));
+    KeyValueList kvCopy = new KeyValueList(kvList.toJson());
+    assertEquals(kvList.getMeta().getLastContact(), kvCopy.getMeta().getLastContact());
+    assertEquals(kvList.getMeta().isKnownLeader(), kvCopy.getMeta().isKnownLeader());
+    assertEquals(kvList.getMeta().isCacheHit(), kvCopy.getMeta().isCacheHit());
+    assertEquals(kvList.getMeta().getCacheAge(), kvCopy.getMeta().getCacheAge());
+    assertNotSame(kvList.getMeta(), new KeyValueList(kvList).getMeta());
     List<KeyValue> shuffled = new ArrayList<>();
     shuffled.add(list.get(1));
     shuffled.add(list.get(0));
@@ -94,6 +104,26 @@ public class CopyTest {
     assertTrue(actualList.containsAll(expectedList));
   }
 
+  @Test
+  public void testKeyValueDiffCopy() {
+    KeyValueDiff diff = new KeyValueDiff()
+      .setIndex(randomLong())
+      .setAdded(Collections.singletonList(randomKeyValue()))
+      .setModified(Collections.singletonList(randomKeyValue()))
+      .setRemoved(Collections.singletonList(randomKeyValue()));
+    checkKeyValueDiff(diff, new KeyValueDiff(diff));
+    checkKeyValueDiff(diff, new KeyValueDiff(diff.toJson()));
+  }
+
+  private void checkKeyValueDiff(KeyValueDiff expected, KeyValueDiff actual) {
+    assertEquals(expected, actual);
+    assertEquals(expected.hashCode(), actual.hashCode());
+    assertEquals(expected.getIndex(), actual.getIndex());
+    assertEquals(expected.getAdded(), actual.getAdded());
+    assertEquals(expected.getModified(), actual.getModified());
+    assertEquals(expected.getRemoved(), actual.getRemoved());
+  }
+
   @Test
   public void testCoordinateListCopy() {
     List<Coordinate> list = new ArrayList<>();
@@ -145,6 +175,8 @@ public class CopyTest {
     assertEquals(expected.getName(), actual.getName());
     assertEquals(expected.getAddress(), actual.getAddress());
     assertEquals(expected.getPort(), actual.getPort());
+    assertEquals(expected.getPassingWeight(), actual.getPassingWeight());
+    assertEquals(expected.getWarningWeight(), actual.getWarningWeight());
     List<String> expectedList = expected.getTags();
     List<String> actualList = actual.getTags();
     assertTrue(expectedList.containsAll(actualList));
@@ -241,6 +273,12 @@ public class CopyTest {
     Coordinate coordinate = randomCoordinate();
     checkCoordinate(coordinate, new Coordinate(coordinate));
     checkCoordinate(coordinate, new Coordinate(coordinate.toJson()));
+    // the vector is a modifiable copy
+    List<Float> vec = coordinate.getVec();
+    vec.set(0, vec.get(0) + 1);
+    vec.add(1f);
+    checkCoordinate(coordinate, new Coordinate(coordinate));
+    assertEquals(vec, coordinate.setVec(vec).getVec());
   }
 
   private void checkCoordinate(Coordinate expected, Coordinate actual) {
@@ -319,6 +357,25 @@ public class CopyTest {
     assertTrue(actualList.containsAll(expectedList));
   }
 
+  @Test
+  public void testServiceEntryChangeListCopy() {
+    ServiceEntryChangeList list = new ServiceEntryChangeList()
+      .setIndex(randomLong())
+      .setList(Collections.singletonList(new ServiceEntryChange()
+        .setType(ServiceEntryChangeType.STATUS_CHANGED)
+        .setEntry(randomServiceEntry())
+        .setStatus(CheckStatus.WARNING)));
+    checkServiceEntryChangeList(list, new ServiceEntryChangeList(list));
+    checkServiceEntryChangeList(list, new ServiceEntryChangeList(list.toJson()));
+  }
+
+  private void checkServiceEntryChangeList(ServiceEntryChangeList expected, ServiceEntryChangeList actual) {
+    assertEquals(expected, actual);
+    assertEquals(expected.hashCode(), actual.hashCode());
+    assertEquals(expected.getIndex(), actual.getIndex());
+    assertEquals(expected.getList(), actual.getList());
+  }
+
   @Test
   public void testServiceListCopy() {
     List<Service> services = new ArrayList<>();
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul.tests;
+
+import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.consul.metrics.DefaultConsulClientMetrics;
+import io.vertx.ext.consul.metrics.LatencyHistogram;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+public class MetricsTest {
+
+  @Test
+  public void histogramPercentiles() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    assertEquals(0, histogram.valueAtPercentile(99));
+    for (int i = 1; i <= 1000; i++) {
+      histogram.record(i, TimeUnit.MILLISECONDS);
+    }
+    assertEquals(1000, histogram.count());
+    assertEquals(1_000_000, histogram.max());
+    assertEquals(500_500, histogram.mean(), 1);
+    assertRelative(500_000, histogram.valueAtPercentile(50));
+    assertRelative(990_000, histogram.valueAtPercentile(99));
+    assertEquals(1_000_000, histogram.valueAtPercentile(100));
+  }
+
+  @Test
+  public void histogramSmallAndHugeValues() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(7, TimeUnit.MICROSECONDS);
+    assertEquals(7, histogram.valueAtPercentile(50));
+    histogram.record(365, TimeUnit.DAYS);
+    assertTrue(histogram.valueAtPercentile(100) >= TimeUnit.HOURS.toMicros(38));
+  }
+
+  @Test
+  public void endpointCounters() {
+    DefaultConsulClientMetrics metrics = new DefaultConsulClientMetrics();
+    metrics.requestBegin("/v1/kv/{key}", HttpMethod.GET, false);
+    metrics.requestBegin("/v1/kv/{key}", HttpMethod.GET, true);
+    DefaultConsulClientMetrics.EndpointMetrics kv = metrics.get("/v1/kv/{key}", HttpMethod.GET);
+    assertEquals(2, kv.inFlight());
+    metrics.requestEnd("/v1/kv/{key}", HttpMethod.GET, false, 200, TimeUnit.MILLISECONDS.toNanos(5), 100);
+    metrics.requestEnd("/v1/kv/{key}", HttpMethod.GET, true, 0, TimeUnit.SECONDS.toNanos(30), 0);
+    assertEquals(0, kv.inFlight());
+    assertEquals(2, kv.requests());
+    assertEquals(1, kv.blockingRequests());
+    assertEquals(1, kv.errors());
+    assertEquals(100, kv.bytes());
+    assertEquals(1, kv.latency().count());
+    assertNull(metrics.get("/v1/kv/{key}", HttpMethod.PUT));
+    int[] visited = new int[1];
+    metrics.forEach((endpoint, method, m) -> visited[0]++);
+    assertEquals(1, visited[0]);
+  }
+
+  @Test
+  public void updates() {
+    DefaultConsulClientMetrics metrics = new DefaultConsulClientMetrics();
+    metrics.updateEnd(1, 0, true);
+    metrics.updateEnd(3, 2, true);
+    metrics.updateEnd(4, 4, false);
+    assertEquals(3, metrics.updates());
+    assertEquals(5, metrics.updateRetries());
+    assertEquals(6, metrics.updateConflicts());
+    assertEquals(1, metrics.failedUpdates());
+  }
+
+  private static void assertRelative(long expected, long actual) {
+    assertEquals(expected, actual, expected * 0.032);
+  }
+}
@@ -1,12 +1,21 @@
 package io.vertx.ext.consul.tests;
 
 import io.vertx.core.json.JsonObject;
+import io.vertx.ext.consul.AgentCacheOptions;
+import io.vertx.ext.consul.BlockingQueryOptions;
+import io.vertx.ext.consul.ConsistencyMode;
 import io.vertx.ext.consul.ConsulClientOptions;
+import io.vertx.ext.consul.KeyValueUpdateOptions;
+import io.vertx.ext.consul.KeyValueWriterOptions;
+import io.vertx.ext.consul.ServiceCacheOptions;
 import org.junit.Test;
 
 import java.net.URI;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
@@ -21,6 +30,8 @@ public class OptionsTest {
     assertEquals(options.getTimeout(), 0);
     assertEquals(options.getAclToken(), null);
     assertEquals(options.getDc(), null);
+    assertEquals(options.getMaxPoolSize(), ConsulClientOptions.DEFAULT_MAX_POOL_SIZE);
+    assertEquals(options.getLongPollMaxPoolSize(), ConsulClientOptions.DEFAULT_LONG_POLL_MAX_POOL_SIZE);
   }
 
   @Test
@@ -55,6 +66,8 @@ public class OptionsTest {
     assertEquals(options.getUserAgent(), json.getString("userAgent"));
     assertEquals(options.getAclToken(), json.getString("aclToken"));
     assertEquals(options.getDc(), json.getString("dc"));
+    assertEquals(options.getMaxPoolSize(), (int) json.getInteger("maxPoolSize"));
+    assertEquals(options.getLongPollMaxPoolSize(), (int) json.getInteger("longPollMaxPoolSize"));
   }
 
   @Test
@@ -65,7 +78,9 @@ public class OptionsTest {
       .setTimeout(33)
       .setUserAgent("ag")
       .setAclToken("tok")
-      .setDc("d");
+      .setDc("d")
+      .setMaxPoolSize(7)
+      .setLongPollMaxPoolSize(128);
     JsonObject json = options.toJson();
     checkJson(options, json);
   }
@@ -78,11 +93,41 @@ public class OptionsTest {
       .put("timeout", 33)
       .put("userAgent", "agent")
       .put("aclToken", "top-secret")
-      .put("dc", "far-away");
+      .put("dc", "far-away")
+      .put("maxPoolSize", 3)
+      .put("longPollMaxPoolSize", 256);
     ConsulClientOptions options = new ConsulClientOptions(json);
     checkJson(options, json);
   }
 
+  @Test
+  public void consistencyMode() {
+    assertEquals(ConsistencyMode.DEFAULT, new ConsulClientOptions().getConsistencyMode());
+    ConsulClientOptions options = new ConsulClientOptions().setConsistencyMode(ConsistencyMode.STALE);
+    assertEquals(ConsistencyMode.STALE, new ConsulClientOptions(options).getConsistencyMode());
+    assertEquals(ConsistencyMode.STALE, new ConsulClientOptions(options.toJson()).getConsistencyMode());
+    BlockingQueryOptions query = new BlockingQueryOptions()
+      .setConsistencyMode(ConsistencyMode.CONSISTENT)
+      .setMaxStale("5s");
+    BlockingQueryOptions queryCopy = new BlockingQueryOptions(query);
+    assertEquals(ConsistencyMode.CONSISTENT, queryCopy.getConsistencyMode());
+    assertEquals("5s", queryCopy.getMaxStale());
+    assertNull(new BlockingQueryOptions().getConsistencyMode());
+  }
+
+  @Test
+  public void agentCacheOptions() {
+    BlockingQueryOptions query = new BlockingQueryOptions()
+      .setCacheOptions(new AgentCacheOptions().setMaxAge(30).setStaleIfError(300));
+    BlockingQueryOptions copy = new BlockingQueryOptions(query);
+    assertEquals(30, copy.getCacheOptions().getMaxAge());
+    assertEquals(300, copy.getCacheOptions().getStaleIfError());
+    AgentCacheOptions fromJson = new AgentCacheOptions(query.getCacheOptions().toJson());
+    assertEquals(30, fromJson.getMaxAge());
+    assertEquals(300, fromJson.getStaleIfError());
+    assertNull(new BlockingQueryOptions().getCacheOptions());
+  }
+
   @Test
   public void copy() {
     ConsulClientOptions options = new ConsulClientOptions()
@@ -91,7 +136,9 @@ public class OptionsTest {
       .setTimeout(33)
       .setUserAgent("ag")
       .setAclToken("tok")
-      .setDc("d");
+      .setDc("d")
+      .setMaxPoolSize(7)
+      .setLongPollMaxPoolSize(128);
     ConsulClientOptions copy = new ConsulClientOptions(options);
     assertEquals(options.getHost(), copy.getHost());
     assertEquals(options.getPort(), copy.getPort());
@@ -99,6 +146,61 @@ public class OptionsTest {
     assertEquals(options.getUserAgent(), copy.getUserAgent());
     assertEquals(options.getAclToken(), copy.getAclToken());
     assertEquals(options.getDc(), copy.getDc());
+    assertEquals(options.getMaxPoolSize(), copy.getMaxPoolSize());
+    assertEquals(options.getLongPollMaxPoolSize(), copy.getLongPollMaxPoolSize());
+  }
+
+  @Test
+  public void serviceCacheOptions() {
+    ServiceCacheOptions defaults = new ServiceCacheOptions(new JsonObject());
+    assertEquals(ServiceCacheOptions.DEFAULT_IDLE_TIMEOUT, defaults.getIdleTimeout());
+    assertEquals(ServiceCacheOptions.DEFAULT_MAX_ENTRIES, defaults.getMaxEntries());
+    ServiceCacheOptions options = new ServiceCacheOptions()
+      .setIdleTimeout(1234)
+      .setMaxEntries(8);
+    ServiceCacheOptions fromJson = new ServiceCacheOptions(options.toJson());
+    assertEquals(1234, fromJson.getIdleTimeout());
+    assertEquals(8, fromJson.getMaxEntries());
+    ServiceCacheOptions copy = new ServiceCacheOptions(options);
+    assertEquals(1234, copy.getIdleTimeout());
+    assertEquals(8, copy.getMaxEntries());
   }
 
+  @Test
+  public void keyValueWriterOptions() {
+    KeyValueWriterOptions defaults = new KeyValueWriterOptions(new JsonObject());
+    assertEquals(KeyValueWriterOptions.DEFAULT_MAX_BATCH_SIZE, defaults.getMaxBatchSize());
+    assertEquals(KeyValueWriterOptions.DEFAULT_FLUSH_INTERVAL, defaults.getFlushInterval());
+    KeyValueWriterOptions options = new KeyValueWriterOptions()
+      .setMaxBatchSize(16)
+      .setFlushInterval(250);
+    KeyValueWriterOptions fromJson = new KeyValueWriterOptions(options.toJson());
+    assertEquals(16, fromJson.getMaxBatchSize());
+    assertEquals(250, fromJson.getFlushInterval());
+    KeyValueWriterOptions copy = new KeyValueWriterOptions(options);
+    assertEquals(16, copy.getMaxBatchSize());
+    assertEquals(250, copy.getFlushInterval());
+  }
+
+  @Test
+  public void keyValueUpdateOptions() {
+    KeyValueUpdateOptions defaults = new KeyValueUpdateOptions(new JsonObject());
+    assertEquals(KeyValueUpdateOptions.DEFAULT_MAX_ATTEMPTS, defaults.getMaxAttempts());
+    assertEquals(KeyValueUpdateOptions.DEFAULT_BACKOFF, defaults.getBackoff());
+    assertEquals(KeyValueUpdateOptions.DEFAULT_MAX_BACKOFF, defaults.getMaxBackoff());
+    assertFalse(defaults.isWaitForChange());
+    KeyValueUpdateOptions options = new KeyValueUpdateOptions()
+      .setMaxAttempts(3)
+      .setBackoff(5)
+      .setMaxBackoff(50)
+      .setWaitForChange(true);
+    KeyValueUpdateOptions fromJson = new KeyValueUpdateOptions(options.toJson());
+    assertEquals(3, fromJson.getMaxAttempts());
+    assertEquals(5, fromJson.getBackoff());
+    assertEquals(50, fromJson.getMaxBackoff());
+    assertTrue(fromJson.isWaitForChange());
+    KeyValueUpdateOptions copy = new KeyValueUpdateOptions(options);
+    assertEquals(3, copy.getMaxAttempts());
+    assertTrue(copy.isWaitForChange());
+  }
 }
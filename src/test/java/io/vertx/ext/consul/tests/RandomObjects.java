@@ -40,6 +40,7 @@ public class RandomObjects {
     return new KeyValue()
       .setKey(randomAlphaString(10))
       .setValue(randomAlphaString(10))
+      .setRawValue(randomBuffer(16))
       .setSession(randomAlphaString(10))
       .setCreateIndex(randomLong())
       .setFlags(randomLong())
@@ -55,7 +56,9 @@ public class RandomObjects {
       .setName(randomAlphaString(10))
       .setAddress(randomAlphaString(10))
       .setPort(randomInt())
-      .setTags(randomStringList(2));
+      .setTags(randomStringList(2))
+      .setPassingWeight(randomPositiveInt())
+      .setWarningWeight(randomPositiveInt());
   }
 
   public static Check randomCheck() {
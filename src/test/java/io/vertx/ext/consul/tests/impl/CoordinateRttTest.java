@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul.tests.impl;
+
+import io.vertx.ext.consul.Coordinate;
+import io.vertx.ext.consul.CoordinateList;
+import io.vertx.ext.consul.PackedCoordinates;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+public class CoordinateRttTest {
+
+  private static final double DELTA = 1e-6;
+
+  @Test
+  public void distanceWithHeights() {
+    Coordinate a = new Coordinate().setVec(Arrays.asList(0f, 0f)).setHeight(0.001f);
+    Coordinate b = new Coordinate().setVec(Arrays.asList(0.003f, 0.004f)).setHeight(0.002f);
+    assertEquals(0.008, rtt(a, b), DELTA);
+    assertEquals(0.008, rtt(b, a), DELTA);
+  }
+
+  @Test
+  public void adjustments() {
+    Coordinate a = new Coordinate().setVec(Arrays.asList(0f, 0f)).setAdj(-0.001f);
+    Coordinate b = new Coordinate().setVec(Arrays.asList(0.003f, 0.004f)).setAdj(0.0005f);
+    assertEquals(0.0045, rtt(a, b), DELTA);
+  }
+
+  @Test
+  public void negativeAdjustmentsIgnored() {
+    Coordinate a = new Coordinate().setVec(Arrays.asList(0f, 0f)).setAdj(-0.01f);
+    Coordinate b = new Coordinate().setVec(Arrays.asList(0.003f, 0.004f)).setAdj(-0.01f);
+    assertEquals(0.005, rtt(a, b), DELTA);
+  }
+
+  @Test
+  public void packed() {
+    Coordinate a = new Coordinate().setNode("a").setVecArray(new float[]{0f, 0f}).setHeight(0.001f);
+    Coordinate b = new Coordinate().setNode("b").setVec(Arrays.asList(0.003f, 0.004f)).setHeight(0.002f);
+    Coordinate c = new Coordinate().setNode("c").setVec(Arrays.asList(0.006f, 0.008f)).setAdj(0.001f);
+    PackedCoordinates packed = new CoordinateList().setList(Arrays.asList(a, b, c)).pack();
+    assertEquals(3, packed.size());
+    assertEquals(2, packed.dimensions());
+    assertEquals(1, packed.indexOf("b"));
+    assertEquals(-1, packed.indexOf("d"));
+    assertEquals(b, packed.coordinate(1));
+    double[] out = new double[packed.size()];
+    packed.rtt(0, out);
+    assertArrayEquals(new double[]{
+      rtt(a, a),
+      rtt(a, b),
+      rtt(a, c)
+    }, out, DELTA);
+    assertEquals(0.012, out[2], DELTA);
+  }
+
+  private static double rtt(Coordinate a, Coordinate b) {
+    return PackedCoordinates.of(Arrays.asList(a, b)).rtt(0, 1);
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul.tests.impl;
+
+import io.vertx.ext.consul.impl.EndpointTemplates;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+public class EndpointTemplatesTest {
+
+  @Test
+  public void parameters() {
+    assertEquals("/v1/kv/{key}", EndpointTemplates.match("/v1/kv/foo%2Fbar"));
+    assertEquals("/v1/kv/{key}", EndpointTemplates.match("/v1/kv/"));
+    assertEquals("/v1/health/service/{service}", EndpointTemplates.match("/v1/health/service/web"));
+    assertEquals("/v1/query/{id}/execute", EndpointTemplates.match("/v1/query/abc/execute"));
+    assertEquals("/v1/acl/token/{accessorId}/clone", EndpointTemplates.match("/v1/acl/token/abc/clone"));
+  }
+
+  @Test
+  public void literalsTakePrecedence() {
+    assertEquals("/v1/acl/policy/name/{name}", EndpointTemplates.match("/v1/acl/policy/name/admin"));
+    assertEquals("/v1/acl/policy/{id}", EndpointTemplates.match("/v1/acl/policy/name"));
+    assertEquals("/v1/query", EndpointTemplates.match("/v1/query"));
+    assertEquals("/v1/catalog/services", EndpointTemplates.match("/v1/catalog/services"));
+  }
+
+  @Test
+  public void unknown() {
+    assertEquals(EndpointTemplates.UNKNOWN, EndpointTemplates.match("/v1/kv/a/b"));
+    assertEquals(EndpointTemplates.UNKNOWN, EndpointTemplates.match("/v1/unknown"));
+    assertEquals(EndpointTemplates.UNKNOWN, EndpointTemplates.match("/v1"));
+    assertEquals(EndpointTemplates.UNKNOWN, EndpointTemplates.match("v1/txn"));
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul.tests.impl;
+
+import io.vertx.ext.consul.impl.PersistentTreeMap;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+public class PersistentTreeMapTest {
+
+  @Test
+  public void sameAsTreeMap() {
+    Random random = new Random(42);
+    TreeMap<String, Integer> expected = new TreeMap<>();
+    PersistentTreeMap<String, Integer> actual = PersistentTreeMap.empty();
+    for (int i = 0; i < 20000; i++) {
+      String key = "k" + random.nextInt(2000);
+      if (random.nextInt(3) == 0) {
+        expected.remove(key);
+        actual = actual.remove(key);
+      } else {
+        expected.put(key, i);
+        actual = actual.put(key, i);
+      }
+    }
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < 2000; i++) {
+      assertEquals(expected.get("k" + i), actual.get("k" + i));
+    }
+    assertEquals(new ArrayList<>(expected.keySet()), keys(actual));
+  }
+
+  @Test
+  public void versionsAreIndependent() {
+    PersistentTreeMap<String, String> v1 = PersistentTreeMap.<String, String>empty().put("a", "1").put("b", "2");
+    PersistentTreeMap<String, String> v2 = v1.put("a", "3").remove("b").put("c", "4");
+    assertEquals("1", v1.get("a"));
+    assertEquals("2", v1.get("b"));
+    assertNull(v1.get("c"));
+    assertEquals(Arrays.asList("a", "b"), keys(v1));
+    assertEquals("3", v2.get("a"));
+    assertNull(v2.get("b"));
+    assertEquals(Arrays.asList("a", "c"), keys(v2));
+    assertTrue(PersistentTreeMap.empty().isEmpty());
+  }
+
+  @Test
+  public void noopUpdatesReturnSameMap() {
+    String value = "v";
+    PersistentTreeMap<String, String> map = PersistentTreeMap.<String, String>empty().put("a", value);
+    assertSame(map, map.put("a", value));
+    assertSame(map, map.remove("b"));
+  }
+
+  @Test
+  public void forEachFrom() {
+    PersistentTreeMap<String, Integer> map = PersistentTreeMap.empty();
+    for (String key : Arrays.asList("a/1", "a/2", "b/1", "b/2", "b/3", "c/1")) {
+      map = map.put(key, key.length());
+    }
+    List<String> visited = new ArrayList<>();
+    map.forEachFrom("b/", (k, v) -> {
+      if (!k.startsWith("b/")) {
+        return false;
+      }
+      visited.add(k);
+      return true;
+    });
+    assertEquals(Arrays.asList("b/1", "b/2", "b/3"), visited);
+    visited.clear();
+    map.forEachFrom("b/2", (k, v) -> visited.add(k));
+    assertEquals(Arrays.asList("b/2", "b/3", "c/1"), visited);
+  }
+
+  private static <V> List<String> keys(PersistentTreeMap<String, V> map) {
+    List<String> keys = new ArrayList<>();
+    map.forEach((k, v) -> keys.add(k));
+    return keys;
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2016 The original author or authors
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ *
+ *      The Eclipse Public License is available at
+ *      http://www.eclipse.org/legal/epl-v10.html
+ *
+ *      The Apache License v2.0 is available at
+ *      http://www.opensource.org/licenses/apache2.0.php
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ */
+package io.vertx.ext.consul.tests.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.ext.consul.*;
+import io.vertx.ext.consul.impl.WatchImpl;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.*;
+
+/**
+ * @author <a href="mailto:ruslan.sennov@gmail.com">Ruslan Sennov</a>
+ */
+public class WatchChangesTest extends VertxTestBase {
+
+  @Test
+  public void swappedCheckStatuses() {
+    ServiceEntry before = entry(CheckStatus.PASSING, CheckStatus.CRITICAL);
+    ServiceEntry after = entry(CheckStatus.CRITICAL, CheckStatus.PASSING);
+    // the hash codes can't tell these entries apart, the watch must not rely on them only
+    assertEquals(before.hashCode(), after.hashCode());
+    Deque<ServiceEntryList> responses = new ArrayDeque<>(Arrays.asList(
+      new ServiceEntryList().setIndex(1).setList(Collections.singletonList(before)),
+      new ServiceEntryList().setIndex(2).setList(Collections.singletonList(after))));
+    List<ServiceEntryList> delivered = Collections.synchronizedList(new ArrayList<>());
+    Watch<ServiceEntryList> watch = new WatchImpl.Service("service", vertx, stub(responses), new ConsulClientOptions())
+      .setHandler(res -> {
+        assertTrue(res.succeeded());
+        delivered.add(res.nextResult());
+        if (delivered.size() == 2) {
+          assertEquals(CheckStatus.CRITICAL, res.prevResult().getList().get(0).getChecks().get(1).getStatus());
+          assertEquals(CheckStatus.PASSING, res.nextResult().getList().get(0).getChecks().get(1).getStatus());
+          testComplete();
+        }
+      })
+      .start();
+    await();
+    watch.stop();
+  }
+
+  private static ServiceEntry entry(CheckStatus first, CheckStatus second) {
+    return new ServiceEntry()
+      .setNode(new Node().setName("node"))
+      .setService(new Service().setId("service-1").setName("service"))
+      .setChecks(Arrays.asList(new Check().setId("a").setStatus(first), new Check().setId("b").setStatus(second)));
+  }
+
+  /**
+   * A client serving the health queries from the responses, the last query never completes
+   */
+  private static ConsulClient stub(Deque<ServiceEntryList> responses) {
+    return (ConsulClient) Proxy.newProxyInstance(ConsulClient.class.getClassLoader(), new Class<?>[]{ConsulClient.class},
+      (proxy, method, args) -> {
+        switch (method.getName()) {
+          case "healthServiceNodesWithOptions":
+            ServiceEntryList next = responses.poll();
+            return next == null ? Promise.promise().future() : Future.succeededFuture(next);
+          case "close":
+            return null;
+          default:
+            throw new UnsupportedOperationException(method.getName());
+        }
+      });
+  }
+}
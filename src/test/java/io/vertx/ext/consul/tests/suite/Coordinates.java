@@ -20,6 +20,7 @@ import io.vertx.ext.consul.tests.instance.ConsulInstance;
 import io.vertx.ext.consul.tests.ConsulTestBase;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -86,6 +87,43 @@ public class Coordinates extends ConsulTestBase {
     return false;
   }
 
+  @Test
+  public void cache() {
+    String node = consul.getConfig("node_name");
+    int requests = MAX_REQUESTS;
+    while (requests --> 0) {
+      CoordinateList nodes = getAsync(() -> readClient.coordinateNodes());
+      if (nodes.getList().size() == 1) {
+        break;
+      }
+      sleep(vertx, 1000);
+      System.out.println("waiting for node coordinates...");
+    }
+    CoordinateCache cache = CoordinateCache.create(vertx, consul.consulClientOptions(consul.dc().readToken()));
+    getAsync(cache::start);
+
+    Coordinate coordinate = cache.get(node);
+    assertNotNull(coordinate);
+    assertEquals(node, coordinate.getNode());
+    double rtt = cache.rtt(node, node);
+    assertEquals(PackedCoordinates.of(Arrays.asList(coordinate, coordinate)).rtt(0, 1), rtt, 1e-9);
+    // the coordinates are in seconds, a node is much closer than a second to itself
+    assertTrue(rtt >= 0 && rtt < 1);
+    assertEquals(-1, cache.rtt(node, "unknown"), 0);
+    assertNull(cache.get("unknown"));
+
+    List<Node> sorted = cache.sortNodes(node, Arrays.asList(new Node().setName("unknown"), new Node().setName(node)));
+    assertEquals(node, sorted.get(0).getName());
+    assertEquals("unknown", sorted.get(1).getName());
+    cache.close();
+    try {
+      getAsync(cache::start);
+      fail("a closed cache must not start");
+    } catch (RuntimeException e) {
+      assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+  }
+
   @Test
   public void datacenters() {
     List<DcCoordinates> datacenters = null;
@@ -15,8 +15,15 @@
  */
 package io.vertx.ext.consul.tests.suite;
 
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.OpenOptions;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.ext.consul.*;
+import io.vertx.ext.consul.metrics.ConsulClientMetrics;
+import io.vertx.ext.consul.metrics.DefaultConsulClientMetrics;
 import io.vertx.ext.consul.tests.ConsulTestBase;
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
@@ -24,7 +31,12 @@ import io.vertx.ext.unit.junit.VertxUnitRunner;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
@@ -226,6 +238,95 @@ public class KVStore extends ConsulTestBase {
       }));
   }
 
+  @Test
+  public void binaryValues(TestContext tc) {
+    String prefix = randomFooBarAlpha() + "/";
+    Buffer value = Buffer.buffer();
+    for (int i = 255; i >= 0; i--) {
+      value.appendByte((byte) i);
+    }
+    writeClient.putValueAsBuffer(prefix + "bin", value)
+      .compose(b -> writeClient.putValue(prefix + "text", "\u00e9t\u00e9"))
+      .compose(b -> readClient.getValues(prefix))
+      .onComplete(tc.asyncAssertSuccess(list -> {
+        tc.assertEquals(2, list.getList().size());
+        KeyValue bin = list.getList().stream().filter(kv -> kv.getKey().endsWith("bin")).findFirst().get();
+        KeyValue text = list.getList().stream().filter(kv -> kv.getKey().endsWith("text")).findFirst().get();
+        tc.assertEquals(value, bin.getRawValue());
+        tc.assertEquals("\u00e9t\u00e9", text.getValue());
+        tc.assertEquals(Buffer.buffer("\u00e9t\u00e9"), text.getRawValue());
+        writeClient.deleteValues(prefix).onComplete(tc.asyncAssertSuccess());
+      }));
+  }
+
+  @Test
+  public void binaryValue(TestContext tc) {
+    String key = randomFooBarAlpha();
+    Buffer value = Buffer.buffer();
+    for (int i = 0; i < 256; i++) {
+      value.appendByte((byte) i);
+    }
+    writeClient.putValueAsBuffer(key, value)
+      .compose(b -> {
+        tc.assertTrue(b);
+        return readClient.getValueAsBuffer(key);
+      })
+      .onComplete(tc.asyncAssertSuccess(kv -> {
+        tc.assertEquals(key, kv.getKey());
+        tc.assertEquals(value, kv.getRawValue());
+        tc.assertTrue(kv.getModifyIndex() > 0);
+        readClient.getValueAsBuffer(randomFooBarAlpha()).onComplete(tc.asyncAssertSuccess(empty -> {
+          tc.assertFalse(empty.isPresent());
+          writeClient.deleteValue(key).onComplete(tc.asyncAssertSuccess());
+        }));
+      }));
+  }
+
+  @Test
+  public void streamValue(TestContext tc) {
+    String key = randomFooBarAlpha();
+    Buffer value = Buffer.buffer();
+    for (int i = 0; i < 64 * 1024; i++) {
+      value.appendByte((byte) i);
+    }
+    String dir = vertx.fileSystem().createTempDirectoryBlocking("consul");
+    String source = dir + "/source";
+    String target = dir + "/target";
+    vertx.fileSystem().writeFileBlocking(source, value);
+    vertx.fileSystem().open(source, new OpenOptions().setRead(true))
+      .compose(file -> writeClient.putValueFromStream(key, file))
+      .compose(b -> {
+        tc.assertTrue(b);
+        return vertx.fileSystem().open(target, new OpenOptions().setWrite(true).setCreate(true));
+      })
+      .compose(file -> readClient.getValueToStream(key, file))
+      .onComplete(tc.asyncAssertSuccess(kv -> {
+        tc.assertEquals(key, kv.getKey());
+        tc.assertTrue(kv.getModifyIndex() > 0);
+        tc.assertEquals(value, vertx.fileSystem().readFileBlocking(target));
+        writeClient.deleteValue(key).onComplete(tc.asyncAssertSuccess());
+      }));
+  }
+
+  @Test
+  public void staleRead(TestContext tc) {
+    String prefix = randomFooBarAlpha() + "/";
+    String key = prefix + randomAlphaString(10);
+    BlockingQueryOptions stale = new BlockingQueryOptions().setConsistencyMode(ConsistencyMode.STALE);
+    writeClient.putValue(key, "v")
+      .compose(b -> readClient.getValuesWithOptions(prefix, stale))
+      .onComplete(tc.asyncAssertSuccess(list -> {
+        tc.assertEquals(1, list.getList().size());
+        tc.assertTrue(list.getMeta().getLastContact() >= 0);
+        tc.assertTrue(list.getMeta().isKnownLeader());
+        readClient.getValuesWithOptions(prefix, new BlockingQueryOptions().setConsistencyMode(ConsistencyMode.CONSISTENT))
+          .onComplete(tc.asyncAssertSuccess(consistent -> {
+            tc.assertEquals(0L, consistent.getMeta().getLastContact());
+            writeClient.deleteValues(prefix).onComplete(tc.asyncAssertSuccess());
+          }));
+      }));
+  }
+
   private void blockingQuery(TestContext tc, BiConsumer<String, Handler<Long>> indexSupplier) {
     String key = randomFooBarAlpha();
     String value = randomAlphaString(10);
@@ -253,4 +354,251 @@ public class KVStore extends ConsulTestBase {
         });
       }));
   }
+
+  @Test
+  public void replica(TestContext tc) {
+    String prefix = randomFooBarAlpha() + "/";
+    String k1 = prefix + "a";
+    String k2 = prefix + "b/c";
+    KeyValueReplica replica = KeyValueReplica.create(vertx, prefix, consul.consulClientOptions(consul.dc().readToken()));
+    Async async = tc.async();
+    writeClient.putValue(k1, "v1")
+      .compose(v -> replica.start())
+      .onComplete(tc.asyncAssertSuccess(v -> {
+        tc.assertEquals("v1", replica.get(k1).getValue());
+        tc.assertTrue(replica.index() > 0);
+        writeClient.putValue(k2, "v2")
+          .compose(b -> writeClient.getValue(k2))
+          .compose(kv -> replica.awaitIndex(kv.getModifyIndex()))
+          .onComplete(tc.asyncAssertSuccess(v2 -> {
+            tc.assertEquals("v2", replica.get(k2).getValue());
+            tc.assertEquals(Arrays.asList(k1, k2), replica.getKeys(prefix));
+            tc.assertEquals(1, replica.getValues(prefix + "b/").getList().size());
+            tc.assertNull(replica.get(prefix + "unknown"));
+            replica.close();
+            writeClient.deleteValues(prefix).onComplete(tc.asyncAssertSuccess(d -> async.complete()));
+          }));
+      }));
+  }
+
+  @Test
+  public void replicaOfEmptyPrefix(TestContext tc) {
+    String prefix = randomFooBarAlpha() + "/";
+    String key = prefix + "a";
+    KeyValueReplica replica = KeyValueReplica.create(vertx, prefix, consul.consulClientOptions(consul.dc().readToken()));
+    Async async = tc.async();
+    replica.start().onComplete(tc.asyncAssertSuccess(v -> {
+      tc.assertTrue(replica.index() > 0);
+      tc.assertTrue(replica.getKeys(prefix).isEmpty());
+      writeClient.putValue(key, "v1")
+        .compose(b -> writeClient.getValue(key))
+        .compose(kv -> replica.awaitIndex(kv.getModifyIndex()).map(kv.getModifyIndex()))
+        .compose(created -> {
+          tc.assertEquals("v1", replica.get(key).getValue());
+          return writeClient.deleteValue(key)
+            .compose(d -> writeClient.getValues(prefix))
+            .compose(list -> {
+              tc.assertTrue(list.getIndex() >= created);
+              return replica.awaitIndex(list.getIndex());
+            });
+        })
+        .onComplete(tc.asyncAssertSuccess(v2 -> {
+          tc.assertNull(replica.get(key));
+          tc.assertTrue(replica.getKeys(prefix).isEmpty());
+          replica.close();
+          async.complete();
+        }));
+    }));
+  }
+
+  @Test
+  public void writer(TestContext tc) {
+    String prefix = randomFooBarAlpha() + "/";
+    KeyValueWriter writer = KeyValueWriter.create(vertx, consul.consulClientOptions(consul.dc().writeToken()),
+      new KeyValueWriterOptions().setFlushInterval(100));
+    List<Future<Boolean>> writes = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      writes.add(writer.put(prefix + (i % 5), "v" + i));
+    }
+    writes.add(writer.putWithOptions(prefix + "cas", "v", new KeyValueOptions().setCasIndex(1)));
+    tc.assertEquals(5L, writer.coalescedCount());
+    Async async = tc.async();
+    Future.all(writes)
+      .compose(v -> {
+        for (int i = 0; i < 10; i++) {
+          tc.assertTrue(writes.get(i).result());
+        }
+        tc.assertFalse(writes.get(10).result());
+        tc.assertEquals(0, writer.pending());
+        return readClient.getValues(prefix);
+      })
+      .onComplete(tc.asyncAssertSuccess(list -> {
+        tc.assertEquals(5, list.getList().size());
+        list.getList().forEach(kv -> tc.assertTrue(kv.getValue().compareTo("v5") >= 0));
+        // the batch rolled back by the failed CAS is sent again, but counted once
+        tc.assertEquals(1L, writer.batchCount());
+        writer.close().onComplete(tc.asyncAssertSuccess(v ->
+          writeClient.deleteValues(prefix).onComplete(tc.asyncAssertSuccess(d -> async.complete()))));
+      }));
+  }
+
+  @Test
+  public void updateValue(TestContext tc) {
+    concurrentUpdates(tc, new KeyValueUpdateOptions().setMaxAttempts(50));
+  }
+
+  @Test
+  public void updateValueWaitForChange(TestContext tc) {
+    concurrentUpdates(tc, new KeyValueUpdateOptions().setMaxAttempts(50).setWaitForChange(true));
+  }
+
+  @Test
+  public void metrics(TestContext tc) {
+    String prefix = randomFooBarAlpha() + "/";
+    String key = prefix + "a";
+    List<String> records = Collections.synchronizedList(new ArrayList<>());
+    ConsulClientMetrics metrics = new ConsulClientMetrics() {
+      @Override
+      public void requestBegin(String endpoint, HttpMethod method, boolean blocking) {
+      }
+
+      @Override
+      public void requestEnd(String endpoint, HttpMethod method, boolean blocking, int statusCode, long latencyNanos, long responseSize) {
+        records.add(method + " " + endpoint + " blocking=" + blocking + " status=" + statusCode + " body=" + (responseSize > 0));
+      }
+    };
+    ConsulClient client = ConsulClient.create(vertx, consul.consulClientOptions(consul.dc().readToken()).setMetrics(metrics));
+    Async async = tc.async();
+    writeClient.putValue(key, "v")
+      .compose(b -> client.getValue(key))
+      .compose(kv -> client.getValuesWithOptions(prefix, new BlockingQueryOptions().setIndex(kv.getModifyIndex()).setWait("1s")))
+      .compose(list -> client.getValue(prefix + "missing"))
+      .onComplete(tc.asyncAssertSuccess(missing -> {
+        tc.assertFalse(missing.isPresent());
+        tc.assertEquals(Arrays.asList(
+          "GET /v1/kv/{key} blocking=false status=200 body=true",
+          "GET /v1/kv/{key} blocking=true status=200 body=true",
+          "GET /v1/kv/{key} blocking=false status=404 body=false"
+        ), new ArrayList<>(records));
+        client.close();
+        writeClient.deleteValues(prefix).onComplete(tc.asyncAssertSuccess(d -> async.complete()));
+      }));
+  }
+
+  private void concurrentUpdates(TestContext tc, KeyValueUpdateOptions options) {
+    String key = randomFooBarAlpha();
+    DefaultConsulClientMetrics metrics = new DefaultConsulClientMetrics();
+    ConsulClient client = ConsulClient.create(vertx, consul.consulClientOptions(consul.dc().writeToken()).setMetrics(metrics));
+    List<Future<KeyValue>> updates = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      updates.add(client.updateValueWithOptions(key, kv ->
+        String.valueOf(kv.isPresent() ? Integer.parseInt(kv.getValue()) + 1 : 1), options));
+    }
+    Async async = tc.async();
+    Future.all(updates)
+      .compose(v -> {
+        updates.forEach(f -> tc.assertTrue(f.result().getModifyIndex() > 0));
+        tc.assertEquals(5L, metrics.updates());
+        tc.assertEquals(metrics.updateConflicts(), metrics.updateRetries());
+        return client.updateValue(key, kv -> null);
+      })
+      .onComplete(tc.asyncAssertSuccess(kv -> {
+        tc.assertEquals("5", kv.getValue());
+        client.close();
+        writeClient.deleteValue(key).onComplete(tc.asyncAssertSuccess(d -> async.complete()));
+      }));
+  }
+
+  @Test
+  public void updateValues(TestContext tc) {
+    String prefix = randomFooBarAlpha() + "/";
+    List<String> keys = Arrays.asList(prefix + "from", prefix + "to", prefix + "log");
+    DefaultConsulClientMetrics metrics = new DefaultConsulClientMetrics();
+    ConsulClient client = ConsulClient.create(vertx, consul.consulClientOptions(consul.dc().writeToken()).setMetrics(metrics));
+    KeyValueUpdateOptions options = new KeyValueUpdateOptions().setMaxAttempts(50);
+    List<Future<List<KeyValue>>> transfers = new ArrayList<>();
+    Async async = tc.async();
+    writeClient.putValue(keys.get(0), "100")
+      .compose(b -> writeClient.putValue(keys.get(1), "0"))
+      .compose(b -> {
+        for (int i = 0; i < 5; i++) {
+          transfers.add(client.updateValuesWithOptions(keys, snapshot -> {
+            Map<String, String> writes = new HashMap<>();
+            writes.put(keys.get(0), String.valueOf(Integer.parseInt(snapshot.get(0).getValue()) - 10));
+            writes.put(keys.get(1), String.valueOf(Integer.parseInt(snapshot.get(1).getValue()) + 10));
+            return writes;
+          }, options));
+        }
+        return Future.all(transfers);
+      })
+      .compose(v -> {
+        tc.assertEquals(5L, metrics.updates());
+        tc.assertEquals(0L, metrics.failedUpdates());
+        transfers.forEach(f -> tc.assertTrue(f.result().get(0).getModifyIndex() > 0));
+        tc.assertFalse(transfers.get(0).result().get(2).isPresent());
+        return client.updateValues(keys, snapshot -> Collections.singletonMap(keys.get(2), null));
+      })
+      .onComplete(tc.asyncAssertSuccess(list -> {
+        tc.assertEquals("50", list.get(0).getValue());
+        tc.assertEquals("50", list.get(1).getValue());
+        tc.assertFalse(list.get(2).isPresent());
+        client.close();
+        writeClient.deleteValues(prefix).onComplete(tc.asyncAssertSuccess(d -> async.complete()));
+      }));
+  }
+
+  @Test
+  public void updateDenied(TestContext tc) {
+    String key = randomFooBarAlpha();
+    DefaultConsulClientMetrics metrics = new DefaultConsulClientMetrics();
+    ConsulClient client = ConsulClient.create(vertx, consul.consulClientOptions(consul.dc().readToken()).setMetrics(metrics));
+    Async async = tc.async();
+    writeClient.putValue(key, "1")
+      .compose(b -> client.updateValue(key, kv -> "2"))
+      .onComplete(tc.asyncAssertFailure(err -> {
+        // the key was not modified, the failed guard is not a conflict
+        tc.assertFalse(err.getMessage().contains("concurrent modifications"));
+        tc.assertEquals(1L, metrics.failedUpdates());
+        client.close();
+        writeClient.deleteValue(key).onComplete(tc.asyncAssertSuccess(d -> async.complete()));
+      }));
+  }
+
+  @Test
+  public void updateValuesConcurrentCreate(TestContext tc) throws Exception {
+    String prefix = randomFooBarAlpha() + "/";
+    List<String> keys = Arrays.asList(prefix + "counter", prefix + "lock");
+    DefaultConsulClientMetrics metrics = new DefaultConsulClientMetrics();
+    ConsulClient client = ConsulClient.create(vertx, consul.consulClientOptions(consul.dc().writeToken()).setMetrics(metrics));
+    // the concurrent writer runs on its own event loop, the mapper blocks until the key is created
+    Vertx other = Vertx.vertx();
+    ConsulClient otherClient = consul.createClient(other, consul.dc().writeToken());
+    List<List<KeyValue>> snapshots = new ArrayList<>();
+    Async async = tc.async();
+    writeClient.putValue(keys.get(0), "1")
+      .compose(b -> client.updateValues(keys, snapshot -> {
+        snapshots.add(snapshot);
+        if (snapshots.size() == 1) {
+          tc.assertFalse(snapshot.get(1).isPresent());
+          try {
+            otherClient.putValue(keys.get(1), "taken").toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+          } catch (Exception e) {
+            throw new RuntimeException(e);
+          }
+        }
+        return snapshot.get(1).isPresent()
+          ? Collections.emptyMap()
+          : Collections.singletonMap(keys.get(0), "2");
+      }))
+      .onComplete(tc.asyncAssertSuccess(list -> {
+        tc.assertEquals(2, snapshots.size());
+        tc.assertEquals(1L, metrics.updateConflicts());
+        tc.assertEquals("1", list.get(0).getValue());
+        tc.assertEquals("taken", list.get(1).getValue());
+        client.close();
+        otherClient.close();
+        other.close();
+        writeClient.deleteValues(prefix).onComplete(tc.asyncAssertSuccess(d -> async.complete()));
+      }));
+  }
 }
@@ -142,6 +142,91 @@ public class Services extends ChecksBase {
     }));
   }
 
+  @Test
+  public void serviceCache(TestContext tc) {
+    String serviceName = randomAlphaString(10);
+    ServiceOptions opts = randomServiceOptions().setName(serviceName).setId(null).setCheckOptions(null);
+    ServiceCache cache = ServiceCache.create(vertx, consul.consulClientOptions(consul.dc().readToken()),
+      new ServiceCacheOptions().setMaxEntries(1));
+    Async async = tc.async();
+    writeClient.registerService(opts)
+      .compose(v -> cache.healthServiceNodes(serviceName, false))
+      .compose(first -> {
+        tc.assertEquals(1, first.getList().size());
+        tc.assertEquals(serviceName, first.getList().get(0).getService().getName());
+        return cache.healthServiceNodes(serviceName, true);
+      })
+      .compose(second -> {
+        tc.assertEquals(1, second.getList().size());
+        // the cached list is shared between the lookups, it can't be changed by any of them
+        try {
+          second.getList().clear();
+          tc.fail("the cached list must be unmodifiable");
+        } catch (UnsupportedOperationException expected) {
+        }
+        tc.assertEquals(1L, cache.missCount());
+        tc.assertEquals(1L, cache.hitCount());
+        return cache.healthServiceNodes(randomAlphaString(10), false);
+      })
+      .onComplete(tc.asyncAssertSuccess(other -> {
+        tc.assertTrue(other.getList().isEmpty());
+        tc.assertEquals(1, cache.size());
+        cache.close();
+        writeClient.deregisterService(serviceName).onComplete(tc.asyncAssertSuccess(v -> async.complete()));
+      }));
+  }
+
+  @Test
+  public void agentCache(TestContext tc) {
+    String serviceName = randomAlphaString(10);
+    ServiceOptions opts = randomServiceOptions().setName(serviceName).setId(null).setCheckOptions(null);
+    ServiceQueryOptions cached = new ServiceQueryOptions().setBlockingOptions(new BlockingQueryOptions()
+      .setCacheOptions(new AgentCacheOptions().setMaxAge(60).setStaleIfError(600)));
+    Async async = tc.async();
+    writeClient.registerService(opts)
+      .compose(v -> readClient.healthServiceNodesWithOptions(serviceName, false, cached))
+      .compose(first -> {
+        tc.assertEquals(1, first.getList().size());
+        tc.assertFalse(first.getMeta().isCacheHit());
+        return readClient.healthServiceNodesWithOptions(serviceName, false, cached);
+      })
+      .onComplete(tc.asyncAssertSuccess(second -> {
+        tc.assertEquals(1, second.getList().size());
+        tc.assertTrue(second.getMeta().isCacheHit());
+        tc.assertTrue(second.getMeta().getCacheAge() >= 0);
+        writeClient.deregisterService(serviceName).onComplete(tc.asyncAssertSuccess(v -> async.complete()));
+      }));
+  }
+
+  @Test
+  public void loadBalancer(TestContext tc) {
+    String serviceName = randomAlphaString(10);
+    ServiceOptions first = randomServiceOptions().setName(serviceName).setId(randomAlphaString(10)).setCheckOptions(null);
+    ServiceOptions second = randomServiceOptions().setName(serviceName).setId(randomAlphaString(10)).setCheckOptions(null);
+    ServiceLoadBalancer lb = ServiceLoadBalancer.create(vertx, serviceName, LoadBalancerStrategy.ROUND_ROBIN,
+      consul.consulClientOptions(consul.dc().readToken()));
+    Async async = tc.async();
+    writeClient.registerService(first)
+      .compose(v -> writeClient.registerService(second))
+      .compose(v -> lb.start())
+      .onComplete(tc.asyncAssertSuccess(v -> {
+        tc.assertEquals(2, lb.size());
+        ServiceEntry a = lb.select();
+        ServiceEntry b = lb.select();
+        tc.assertNotEquals(a.getService().getId(), b.getService().getId());
+        tc.assertEquals(a.getService().getId(), lb.select().getService().getId());
+        lb.release(a);
+        lb.release(b);
+        lb.close();
+        lb.start().onComplete(tc.asyncAssertFailure(err -> {
+          tc.assertTrue(err instanceof IllegalStateException);
+          writeClient.deregisterService(first.getId())
+            .compose(d -> writeClient.deregisterService(second.getId()))
+            .onComplete(tc.asyncAssertSuccess(d -> async.complete()));
+        }));
+      }));
+  }
+
   @Test(timeout = 3 * 60 * 1000)
   public void deregisterAfter(TestContext tc) {
     if (System.getProperty("skipDeregisterAfter") != null) {
@@ -17,17 +17,27 @@ package io.vertx.ext.consul.tests.suite;
 
 import io.vertx.core.Handler;
 import io.vertx.core.json.JsonObject;
+import io.vertx.ext.consul.Check;
+import io.vertx.ext.consul.CheckStatus;
 import io.vertx.ext.consul.KeyValue;
+import io.vertx.ext.consul.Node;
 import io.vertx.ext.consul.Service;
 import io.vertx.ext.consul.ServiceOptions;
+import io.vertx.ext.consul.Session;
+import io.vertx.ext.consul.TxnCheckOperation;
+import io.vertx.ext.consul.TxnCheckVerb;
 import io.vertx.ext.consul.TxnError;
 import io.vertx.ext.consul.TxnKVOperation;
 import io.vertx.ext.consul.TxnKVVerb;
+import io.vertx.ext.consul.TxnNodeOperation;
+import io.vertx.ext.consul.TxnNodeVerb;
 import io.vertx.ext.consul.TxnOperationType;
 import io.vertx.ext.consul.TxnRequest;
 import io.vertx.ext.consul.TxnResponse;
 import io.vertx.ext.consul.TxnServiceOperation;
 import io.vertx.ext.consul.TxnServiceVerb;
+import io.vertx.ext.consul.TxnSessionOperation;
+import io.vertx.ext.consul.TxnSessionVerb;
 import io.vertx.ext.consul.tests.ConsulTestBase;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
@@ -68,6 +78,52 @@ public class Transactions extends ConsulTestBase {
     }));
   }
 
+  @Test
+  public void kvGetByKeys(TestContext tc) {
+    TxnRequest request = new TxnRequest();
+    List<String> keys = new ArrayList<>();
+    for (int i = 0; i < 150; i++) {
+      String key = "foo/bar/keys/" + i;
+      if (i % 7 != 3) {
+        request.addOperation(new TxnKVOperation().setKey(key).setValue("val" + i).setType(TxnKVVerb.SET));
+      }
+      keys.add(key);
+    }
+    TxnRequest first = new TxnRequest();
+    TxnRequest second = new TxnRequest();
+    for (int i = 0; i < request.getOperationsSize(); i++) {
+      (i < 64 ? first : second).addOperation(request.getOperations(i));
+    }
+    writeClient.transaction(first)
+      .compose(resp -> writeClient.transaction(second))
+      .compose(resp -> readClient.getValuesByKeys(keys))
+      .onComplete(tc.asyncAssertSuccess(list -> {
+        tc.assertEquals(keys.size(), list.size());
+        for (int i = 0; i < keys.size(); i++) {
+          KeyValue kv = list.get(i);
+          if (i % 7 == 3) {
+            tc.assertFalse(kv.isPresent());
+          } else {
+            tc.assertEquals(keys.get(i), kv.getKey());
+            tc.assertEquals("val" + i, kv.getValue());
+          }
+        }
+        writeClient.deleteValues("foo/bar/keys/").onComplete(tc.asyncAssertSuccess());
+      }));
+  }
+
+  @Test
+  public void kvGetMissing(TestContext tc) {
+    // getValuesByKeys tells the missing keys apart from the other failures by this message only
+    TxnRequest request = new TxnRequest()
+      .addOperation(new TxnKVOperation().setKey("foo/bar/missing").setType(TxnKVVerb.GET));
+    readClient.transaction(request).onComplete(tc.asyncAssertSuccess(resp -> {
+      tc.assertEquals(1, resp.getErrorsSize());
+      tc.assertEquals(0, resp.getErrors().get(0).getOpIndex());
+      tc.assertTrue(resp.getErrors().get(0).getWhat().contains("doesn't exist"));
+    }));
+  }
+
   @Test
   public void kvCas(TestContext tc) {
     createKV(tc, "foo/bar1", "value1", idx1 -> {
@@ -323,6 +379,51 @@ public class Transactions extends ConsulTestBase {
     }));
   }
 
+  @Test
+  public void nodeServiceAndCheckSet(TestContext tc) {
+    String nodeName = "txn-node-" + System.nanoTime();
+    ServiceOptions serviceOptions = createServiceOptions("txn-id1", SERVICE_NAME, "10.10.10.11", 8080);
+    Node node = new Node().setName(nodeName).setAddress("10.10.10.11");
+    Check check = new Check().setNode(nodeName).setId("txn-check").setName("txn check")
+      .setStatus(CheckStatus.PASSING).setServiceId(serviceOptions.getId());
+    TxnRequest request = new TxnRequest()
+      .addOperation(new TxnNodeOperation().setNode(node).setType(TxnNodeVerb.SET))
+      .addOperation(new TxnServiceOperation().setNode(nodeName).setServiceOptions(serviceOptions).setType(TxnServiceVerb.SET))
+      .addOperation(new TxnCheckOperation().setCheck(check).setType(TxnCheckVerb.SET));
+    writeClient.transaction(request).onComplete(tc.asyncAssertSuccess(response -> {
+      tc.assertEquals(0, response.getErrorsSize());
+      tc.assertEquals(3, response.getResultsSize());
+      tc.assertEquals(TxnOperationType.NODE, response.getResult(0).getOperationType());
+      tc.assertEquals(nodeName, ((Node) response.getResult(0)).getName());
+      tc.assertEquals(TxnOperationType.CHECK, response.getResult(2).getOperationType());
+      Check created = (Check) response.getResult(2);
+      tc.assertEquals("txn-check", created.getId());
+      tc.assertEquals(CheckStatus.PASSING, created.getStatus());
+      readClient.healthChecks(SERVICE_NAME).onComplete(tc.asyncAssertSuccess(checks -> {
+        tc.assertTrue(checks.getList().stream().anyMatch(c -> "txn-check".equals(c.getId())));
+        TxnRequest delete = new TxnRequest()
+          .addOperation(new TxnNodeOperation().setNode(new Node().setName(nodeName)).setType(TxnNodeVerb.DELETE));
+        writeClient.transaction(delete).onComplete(tc.asyncAssertSuccess(deleted -> {
+          tc.assertEquals(0, deleted.getErrorsSize());
+          readClient.catalogNodes().onComplete(tc.asyncAssertSuccess(nodes ->
+            tc.assertFalse(nodes.getList().stream().anyMatch(n -> nodeName.equals(n.getName())))));
+        }));
+      }));
+    }));
+  }
+
+  @Test
+  public void sessionDelete(TestContext tc) {
+    writeClient.createSession().onComplete(tc.asyncAssertSuccess(id -> {
+      TxnRequest request = new TxnRequest()
+        .addOperation(new TxnSessionOperation().setSession(new Session().setId(id)).setType(TxnSessionVerb.DELETE));
+      writeClient.transaction(request).onComplete(tc.asyncAssertSuccess(response -> {
+        tc.assertEquals(0, response.getErrorsSize());
+        readClient.infoSession(id).onComplete(tc.asyncAssertFailure());
+      }));
+    }));
+  }
+
   @Test
   public void testJsonToTxnRequest(TestContext tc) {
     ServiceOptions serviceOptions = createServiceOptions("id1", SERVICE_NAME, "10.10.10.10", 8080);
@@ -410,6 +511,38 @@ public class Transactions extends ConsulTestBase {
     tc.assertEquals(txnError.getWhat(), deserializedTxnError.getWhat());
   }
 
+  @Test
+  public void testNodeCheckSessionJson(TestContext tc) {
+    Node node = new Node().setName("node1").setAddress("10.10.10.10").setLanAddress("10.10.10.10");
+    Check check = new Check().setNode("node1").setId("check1").setName("check").setStatus(CheckStatus.WARNING);
+    TxnRequest txnRequest = new TxnRequest()
+      .addOperation(new TxnNodeOperation().setNode(node).setIndex(7).setType(TxnNodeVerb.CAS))
+      .addOperation(new TxnCheckOperation().setCheck(check).setType(TxnCheckVerb.SET))
+      .addOperation(new TxnSessionOperation().setSession(new Session().setId("s1")).setType(TxnSessionVerb.DELETE));
+    JsonObject jsonRequest = txnRequest.toJson();
+    List<JsonObject> jsonOperations = jsonRequest.getJsonArray("operations").getList();
+    tc.assertEquals("node1", jsonOperations.get(0).getJsonObject("Node").getJsonObject("Node").getString("Node"));
+    tc.assertEquals("warning", jsonOperations.get(1).getJsonObject("Check").getJsonObject("Check").getString("Status"));
+    TxnRequest deserializedTxnRequest = new TxnRequest(jsonRequest);
+    TxnNodeOperation nodeOp = (TxnNodeOperation) deserializedTxnRequest.getOperations(0);
+    tc.assertEquals(TxnNodeVerb.CAS, nodeOp.getType());
+    tc.assertEquals(7L, nodeOp.getIndex());
+    tc.assertEquals(node, nodeOp.getNode());
+    tc.assertEquals(TxnOperationType.NODE, nodeOp.getOperationType());
+    TxnCheckOperation checkOp = (TxnCheckOperation) deserializedTxnRequest.getOperations(1);
+    tc.assertEquals(TxnCheckVerb.SET, checkOp.getType());
+    tc.assertEquals(check, checkOp.getCheck());
+    TxnSessionOperation sessionOp = (TxnSessionOperation) deserializedTxnRequest.getOperations(2);
+    tc.assertEquals(TxnSessionVerb.DELETE, sessionOp.getType());
+    tc.assertEquals("s1", sessionOp.getSession().getId());
+
+    TxnResponse txnResponse = new TxnResponse().addResult(node).addResult(check);
+    TxnResponse deserializedTxnResponse = new TxnResponse(txnResponse.toJson());
+    tc.assertEquals(2, deserializedTxnResponse.getResultsSize());
+    tc.assertEquals(node, deserializedTxnResponse.getResult(0));
+    tc.assertEquals(check, deserializedTxnResponse.getResult(1));
+  }
+
   @Test
   public void testEmptyJsonToTxnResponse(TestContext tc) {
     TxnResponse txnResponse = new TxnResponse();
@@ -15,7 +15,12 @@
  */
 package io.vertx.ext.consul.tests.suite;
 
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.shareddata.LocalMap;
 import io.vertx.ext.consul.*;
+import io.vertx.ext.consul.metrics.DefaultConsulClientMetrics;
 import io.vertx.ext.consul.tests.ConsulTestBase;
 import io.vertx.ext.consul.tests.Utils;
 import io.vertx.ext.consul.tests.impl.WatchKeyPrefixCnt;
@@ -289,6 +294,174 @@ public class Watches extends ConsulTestBase {
     watch.stop();
   }
 
+  @Test
+  public void sharedClient(TestContext tc) {
+    String k1 = KEY_RW_PREFIX + randomAlphaString(10);
+    String k2 = KEY_RW_PREFIX + randomAlphaString(10);
+    String v1 = randomAlphaString(10);
+    String v2 = randomAlphaString(10);
+    String v3 = randomAlphaString(10);
+    Async async = tc.async(2);
+    Async last = tc.async();
+    LocalMap<String, Object> transports = vertx.sharedData().getLocalMap("__vertx.ConsulClient.transports");
+
+    WatchFactory factory = WatchFactory.create(vertx, consul.consulClientOptions(consul.dc().readToken()));
+    Watch<KeyValue> w1 = factory.key(k1).setHandler(kv -> {
+      if (kv.succeeded() && kv.nextResult().isPresent()) {
+        tc.assertEquals(v1, kv.nextResult().getValue());
+        async.countDown();
+      }
+    }).start();
+    Watch<KeyValue> w2 = factory.key(k2).setHandler(kv -> {
+      if (kv.succeeded() && kv.nextResult().isPresent()) {
+        if (v2.equals(kv.nextResult().getValue())) {
+          async.countDown();
+        } else {
+          tc.assertEquals(v3, kv.nextResult().getValue());
+          last.countDown();
+        }
+      }
+    }).start();
+
+    tc.assertTrue(getAsync(() -> writeClient.putValue(k1, v1)));
+    tc.assertTrue(getAsync(() -> writeClient.putValue(k2, v2)));
+    async.await(10000);
+    // both watches use the same transport
+    tc.assertEquals(1, transports.size());
+
+    // the transport is still referenced by the other watch
+    w1.stop();
+    tc.assertTrue(getAsync(() -> writeClient.putValue(k2, v3)));
+    last.await(10000);
+    tc.assertEquals(1, transports.size());
+
+    // the transport is closed with the last watch
+    w2.stop();
+    Async released = tc.async();
+    vertx.setPeriodic(10, id -> {
+      if (transports.isEmpty()) {
+        vertx.cancelTimer(id);
+        released.countDown();
+      }
+    });
+    released.await(10000);
+    runAsync(() -> writeClient.deleteValue(k1));
+    runAsync(() -> writeClient.deleteValue(k2));
+  }
+
+  @Test
+  public void sharedWatch(TestContext tc) {
+    String key = KEY_RW_PREFIX + randomAlphaString(10);
+    String v1 = randomAlphaString(10);
+    String v2 = randomAlphaString(10);
+    Async first = tc.async(2);
+    Async second = tc.async(1);
+
+    WatchFactory factory = WatchFactory.create(vertx, consul.consulClientOptions(consul.dc().readToken()));
+    Watch<KeyValue> w1 = factory.key(key).setHandler(kv -> {
+      if (kv.succeeded() && kv.nextResult().isPresent() && v1.equals(kv.nextResult().getValue())) {
+        first.countDown();
+      }
+    }).start();
+    tc.assertTrue(getAsync(() -> writeClient.putValue(key, v1)));
+    Watch<KeyValue> w2 = factory.key(key).setHandler(kv -> {
+      if (kv.succeeded() && kv.nextResult().isPresent()) {
+        if (v1.equals(kv.nextResult().getValue())) {
+          first.countDown();
+        } else if (v2.equals(kv.nextResult().getValue())) {
+          second.countDown();
+        }
+      }
+    }).start();
+    first.await(5000);
+
+    w1.stop();
+    tc.assertTrue(getAsync(() -> writeClient.putValue(key, v2)));
+    second.await(5000);
+
+    w2.stop();
+    runAsync(() -> writeClient.deleteValue(key));
+  }
+
+  @Test
+  public void sharedWatchSurvivesUndeploy(TestContext tc) {
+    String key = KEY_RW_PREFIX + randomAlphaString(10);
+    String v1 = randomAlphaString(10);
+    String v2 = randomAlphaString(10);
+    Async first = tc.async(2);
+    Async second = tc.async(1);
+
+    WatchFactory factory = WatchFactory.create(vertx, consul.consulClientOptions(consul.dc().readToken()));
+    tc.assertTrue(getAsync(() -> writeClient.putValue(key, v1)));
+    String deploymentId = getAsync(() -> vertx.deployVerticle(new WatchVerticle(factory, key, kv -> {
+      if (v1.equals(kv.getValue())) {
+        first.countDown();
+      }
+    })));
+    getAsync(() -> vertx.deployVerticle(new WatchVerticle(factory, key, kv -> {
+      if (v1.equals(kv.getValue())) {
+        first.countDown();
+      } else if (v2.equals(kv.getValue())) {
+        second.countDown();
+      }
+    })));
+    first.await(5000);
+
+    runAsync(() -> vertx.undeploy(deploymentId));
+    tc.assertTrue(getAsync(() -> writeClient.putValue(key, v2)));
+    second.await(5000);
+
+    runAsync(() -> writeClient.deleteValue(key));
+  }
+
+  @Test
+  public void keyPrefixDiff(TestContext tc) {
+    String keyPrefix = KEY_RW_PREFIX + randomAlphaString(10);
+    String k1 = keyPrefix + randomAlphaString(10);
+    String k2 = keyPrefix + randomAlphaString(10);
+    List<KeyValueDiff> diffs = Collections.synchronizedList(new ArrayList<>());
+    Async added1 = tc.async(1);
+    Async added2 = tc.async(2);
+    Async modified = tc.async(3);
+    Async removed = tc.async(4);
+
+    tc.assertTrue(getAsync(() -> writeClient.putValue(k1, "v1")));
+
+    Watch<KeyValueDiff> watch = Watch.keyPrefixDiff(keyPrefix, vertx, consul.consulClientOptions(consul.dc().readToken()))
+      .setHandler(res -> {
+        if (res.succeeded()) {
+          diffs.add(res.nextResult());
+          added1.countDown();
+          added2.countDown();
+          modified.countDown();
+          removed.countDown();
+        }
+      })
+      .start();
+
+    added1.await(1000);
+    tc.assertEquals(k1, diffs.get(0).getAdded().get(0).getKey());
+
+    tc.assertTrue(getAsync(() -> writeClient.putValue(k2, "v2")));
+    added2.await(1000);
+    tc.assertEquals(1, diffs.get(1).getAdded().size());
+    tc.assertEquals(k2, diffs.get(1).getAdded().get(0).getKey());
+    tc.assertTrue(diffs.get(1).getModified().isEmpty());
+    tc.assertTrue(diffs.get(1).getRemoved().isEmpty());
+
+    tc.assertTrue(getAsync(() -> writeClient.putValue(k1, "v3")));
+    modified.await(1000);
+    tc.assertTrue(diffs.get(2).getAdded().isEmpty());
+    tc.assertEquals("v3", diffs.get(2).getModified().get(0).getValue());
+
+    runAsync(() -> writeClient.deleteValue(k2));
+    removed.await(1000);
+    tc.assertEquals(k2, diffs.get(3).getRemoved().get(0).getKey());
+
+    watch.stop();
+    runAsync(() -> writeClient.deleteValues(keyPrefix));
+  }
+
   @Test
   public void iss54(TestContext tc) {
     String keyPrefix = KEY_RW_PREFIX + randomAlphaString(10);
@@ -428,6 +601,122 @@ public class Watches extends ConsulTestBase {
     runAsync(() -> writeClient.deregisterService(service.getId()));
   }
 
+  @Test
+  public void serviceChanges(TestContext tc) {
+    ServiceOptions service = new ServiceOptions()
+      .setCheckOptions(new CheckOptions()
+        .setStatus(CheckStatus.PASSING)
+        .setTtl("2s")
+        .setName(randomAlphaString(10)))
+      .setId(randomAlphaString(10))
+      .setName(randomAlphaString(10));
+    List<ServiceEntryChange> changes = Collections.synchronizedList(new ArrayList<>());
+    Async empty = tc.async();
+    Async added = tc.async();
+    Async critical = tc.async();
+    Async removed = tc.async();
+
+    Watch<ServiceEntryChangeList> watch = Watch
+      .serviceChanges(service.getName(), vertx, consul.consulClientOptions(consul.dc().readToken()))
+      .setHandler(res -> {
+        if (res.succeeded()) {
+          List<ServiceEntryChange> list = res.nextResult().getList();
+          changes.addAll(list);
+          if (list.isEmpty()) {
+            empty.countDown();
+          }
+          for (ServiceEntryChange change : list) {
+            switch (change.getType()) {
+              case ADDED:
+                added.countDown();
+                break;
+              case STATUS_CHANGED:
+                if (change.getStatus() == CheckStatus.CRITICAL) {
+                  critical.countDown();
+                }
+                break;
+              case REMOVED:
+                removed.countDown();
+                break;
+            }
+          }
+        }
+      })
+      .start();
+
+    // the awaits are bounded by the events, the timeouts only guard against a stuck watch
+    empty.await(10000);
+    tc.assertTrue(changes.isEmpty());
+
+    runAsync(() -> writeClient.registerService(service));
+    added.await(10000);
+    tc.assertEquals(ServiceEntryChangeType.ADDED, changes.get(0).getType());
+    tc.assertEquals(service.getId(), changes.get(0).getEntry().getService().getId());
+    tc.assertEquals(CheckStatus.PASSING, changes.get(0).getStatus());
+
+    // the TTL check turns critical when it is not updated
+    critical.await(30000);
+    tc.assertEquals(ServiceEntryChangeType.STATUS_CHANGED, changes.get(1).getType());
+    tc.assertEquals(CheckStatus.CRITICAL, changes.get(1).getStatus());
+
+    runAsync(() -> writeClient.deregisterService(service.getId()));
+    removed.await(10000);
+    tc.assertEquals(ServiceEntryChangeType.REMOVED, changes.get(changes.size() - 1).getType());
+    tc.assertEquals(service.getId(), changes.get(changes.size() - 1).getEntry().getService().getId());
+
+    watch.stop();
+  }
+
+  @Test
+  public void sameContentNotDelivered(TestContext tc) {
+    String name = randomAlphaString(10);
+    ServiceOptions other = new ServiceOptions()
+      .setId(randomAlphaString(10))
+      .setName(randomAlphaString(10));
+    ServiceOptions watched = new ServiceOptions()
+      .setId(randomAlphaString(10))
+      .setName(name);
+    DefaultConsulClientMetrics metrics = new DefaultConsulClientMetrics();
+    AtomicInteger cnt = new AtomicInteger();
+    Async first = tc.async();
+    Async second = tc.async();
+
+    Watch<ServiceEntryList> watch = Watch
+      .service(name, vertx, consul.consulClientOptions(consul.dc().readToken()).setMetrics(metrics))
+      .setHandler(list -> {
+        if (list.succeeded()) {
+          if (cnt.incrementAndGet() == 1) {
+            first.countDown();
+          } else {
+            second.countDown();
+          }
+        }
+      })
+      .start();
+    first.await(10000);
+
+    // bumps the index of health endpoint, but not the content of the watched service
+    long requests = metrics.get("/v1/health/service/{service}", HttpMethod.GET).requests();
+    runAsync(() -> writeClient.registerService(other));
+    Async bumped = tc.async();
+    vertx.setPeriodic(10, id -> {
+      if (metrics.get("/v1/health/service/{service}", HttpMethod.GET).requests() > requests) {
+        vertx.cancelTimer(id);
+        bumped.countDown();
+      }
+    });
+    bumped.await(10000);
+
+    // the next delivery must be the one of the watched service, not the one of the bumped index
+    runAsync(() -> writeClient.registerService(watched));
+    second.await(10000);
+    tc.assertEquals(2, cnt.get());
+
+    watch.stop();
+    runAsync(() -> writeClient.deregisterService(other.getId()));
+    runAsync(() -> writeClient.deregisterService(watched.getId()));
+  }
+
   @Test
   public void watchEvents(TestContext tc) {
     String evName = randomAlphaString(10);
@@ -473,6 +762,41 @@ public class Watches extends ConsulTestBase {
     watch.stop();
   }
 
+  @Test
+  public void watchNewEvents(TestContext tc) {
+    String evName = randomAlphaString(10);
+    String p1 = randomAlphaString(10);
+    String p2 = randomAlphaString(10);
+    String p3 = randomAlphaString(10);
+    Async first = tc.async(1);
+    Async second = tc.async(2);
+    List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+
+    getAsync(() -> writeClient.fireEventWithOptions(evName, new EventOptions().setPayload(p1)));
+    getAsync(() -> writeClient.fireEventWithOptions(evName, new EventOptions().setPayload(p2)));
+    EventList known = getAsync(() -> writeClient.listEventsWithOptions(new EventListOptions().setName(evName)));
+    int cursor = known.getList().stream().filter(ev -> ev.getPayload().equals(p1)).findFirst().get().getLTime();
+
+    Watch<EventList> watch = Watch.newEvents(evName, cursor, vertx, consul.consulClientOptions(consul.dc().readToken()))
+      .setHandler(list -> {
+        if (list.succeeded()) {
+          batches.add(list.nextResult().getList().stream().map(Event::getPayload).collect(Collectors.toList()));
+          first.countDown();
+          second.countDown();
+        }
+      })
+      .start();
+
+    first.await(1000);
+    tc.assertEquals(Collections.singletonList(p2), batches.get(0));
+
+    getAsync(() -> writeClient.fireEventWithOptions(evName, new EventOptions().setPayload(p3)));
+    second.await(1000);
+    tc.assertEquals(Collections.singletonList(p3), batches.get(1));
+
+    watch.stop();
+  }
+
   @Test
   public void watchNodes(TestContext tc) {
     String nodeName = randomAlphaString(10);
@@ -618,4 +942,32 @@ public class Watches extends ConsulTestBase {
     watch.stop();
     runAsync(() -> writeClient.deregisterService(opts.getId()));
   }
+
+  private static class WatchVerticle extends AbstractVerticle {
+
+    private final WatchFactory factory;
+    private final String key;
+    private final Handler<KeyValue> handler;
+    private Watch<KeyValue> watch;
+
+    private WatchVerticle(WatchFactory factory, String key, Handler<KeyValue> handler) {
+      this.factory = factory;
+      this.key = key;
+      this.handler = handler;
+    }
+
+    @Override
+    public void start() {
+      watch = factory.key(key).setHandler(kv -> {
+        if (kv.succeeded() && kv.nextResult().isPresent()) {
+          handler.handle(kv.nextResult());
+        }
+      }).start();
+    }
+
+    @Override
+    public void stop() {
+      watch.stop();
+    }
+  }
 }